@@ -0,0 +1,219 @@
+package pickleib.driver;
+
+import context.ContextStore;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+import static pickleib.web.driver.WebDriverFactory.getDriverTimeout;
+
+/**
+ * Keeps track of the timeouts set on each driver session, so that a timeouts command is only sent
+ * when the effective value actually changes.
+ * <p>
+ * Timeouts set directly through {@code driver.manage().timeouts()} bypass the tracker,
+ * {@link #invalidate(WebDriver)} should be called after doing so.
+ */
+@SuppressWarnings("unused")
+public class SessionTimeouts {
+
+    /**
+     * implicit wait is kept at 0 if true, all Pickleib waits become explicit
+     */
+    static boolean zeroImplicitWait = Boolean.parseBoolean(ContextStore.get("zero-implicit-wait", "false"));
+
+    /**
+     * determines the implicit wait used while polling element states, in milliseconds
+     */
+    static long pollingImplicitWait = Long.parseLong(ContextStore.get("polling-implicit-wait", "500"));
+
+    /**
+     * Timeouts last sent to a session, null if unknown
+     */
+    private static class TimeoutState {
+        Duration implicitWait;
+        Duration scriptTimeout;
+        Duration pageLoadTimeout;
+    }
+
+    /**
+     * W3C default script timeout, sessions are started with it
+     */
+    public static final Duration defaultScriptTimeout = Duration.ofSeconds(30);
+
+    /**
+     * W3C default page load timeout, sessions are started with it
+     */
+    public static final Duration defaultPageLoadTimeout = Duration.ofSeconds(300);
+
+    private static final Map<WebDriver, TimeoutState> states = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Sets the implicit wait of a session if it differs from the current one
+     *
+     * @param driver   target driver
+     * @param duration implicit wait
+     */
+    public static void implicitlyWait(WebDriver driver, Duration duration) {
+        TimeoutState state = state(driver);
+        synchronized (state) {
+            if (duration.equals(state.implicitWait)) return;
+            driver.manage().timeouts().implicitlyWait(duration);
+            state.implicitWait = duration;
+        }
+    }
+
+    /**
+     * Sets the script timeout of a session if it differs from the current one
+     *
+     * @param driver   target driver
+     * @param duration script timeout
+     */
+    public static void scriptTimeout(WebDriver driver, Duration duration) {
+        TimeoutState state = state(driver);
+        synchronized (state) {
+            if (duration.equals(state.scriptTimeout)) return;
+            driver.manage().timeouts().scriptTimeout(duration);
+            state.scriptTimeout = duration;
+        }
+    }
+
+    /**
+     * Sets the page load timeout of a session if it differs from the current one
+     *
+     * @param driver   target driver
+     * @param duration page load timeout
+     */
+    public static void pageLoadTimeout(WebDriver driver, Duration duration) {
+        TimeoutState state = state(driver);
+        synchronized (state) {
+            if (duration.equals(state.pageLoadTimeout)) return;
+            driver.manage().timeouts().pageLoadTimeout(duration);
+            state.pageLoadTimeout = duration;
+        }
+    }
+
+    /**
+     * Runs an action with a given implicit wait, the default implicit wait is restored afterwards
+     *
+     * @param driver   target driver
+     * @param duration implicit wait during the action
+     * @param action   target action
+     * @return returns the result of the action
+     * @param <Result> result type
+     */
+    public static <Result> Result withImplicitWait(WebDriver driver, Duration duration, Supplier<Result> action) {
+        implicitlyWait(driver, duration);
+        try {
+            return action.get();
+        }
+        finally {
+            restoreImplicitWait(driver);
+        }
+    }
+
+    /**
+     * Runs an action with the polling implicit wait, the default implicit wait is restored afterwards
+     *
+     * @param driver target driver
+     * @param action target action
+     * @return returns the result of the action
+     * @param <Result> result type
+     */
+    public static <Result> Result whilePolling(WebDriver driver, Supplier<Result> action) {
+        return withImplicitWait(driver, pollingImplicitWait(), action);
+    }
+
+    /**
+     * Restores the default implicit wait of a session
+     *
+     * @param driver target driver
+     */
+    public static void restoreImplicitWait(WebDriver driver) {
+        implicitlyWait(driver, defaultImplicitWait());
+    }
+
+    /**
+     * Restores the default timeouts of a session: the default implicit wait & the W3C default script and page load
+     * timeouts. Script and page load timeouts are only sent if they were changed through the tracker.
+     *
+     * @param driver target driver
+     */
+    public static void reset(WebDriver driver) {
+        TimeoutState state = state(driver);
+        restoreImplicitWait(driver);
+        if (state.scriptTimeout != null) scriptTimeout(driver, defaultScriptTimeout);
+        if (state.pageLoadTimeout != null) pageLoadTimeout(driver, defaultPageLoadTimeout);
+    }
+
+    /**
+     * Acquires the default implicit wait, 0 in zero implicit wait mode
+     *
+     * @return returns the default implicit wait
+     */
+    public static Duration defaultImplicitWait() {
+        return zeroImplicitWait ? Duration.ZERO : Duration.ofSeconds(getDriverTimeout());
+    }
+
+    /**
+     * Acquires the implicit wait used while polling element states, 0 in zero implicit wait mode
+     *
+     * @return returns the polling implicit wait
+     */
+    public static Duration pollingImplicitWait() {
+        return zeroImplicitWait ? Duration.ZERO : Duration.ofMillis(pollingImplicitWait);
+    }
+
+    /**
+     * Acquires the last implicit wait sent to a session
+     *
+     * @param driver target driver
+     * @return returns the implicit wait, null if it is unknown
+     */
+    public static Duration getImplicitWait(WebDriver driver) {
+        return state(driver).implicitWait;
+    }
+
+    /**
+     * Acquires the last script timeout sent to a session
+     *
+     * @param driver target driver
+     * @return returns the script timeout, null if it is unknown
+     */
+    public static Duration getScriptTimeout(WebDriver driver) {
+        return state(driver).scriptTimeout;
+    }
+
+    /**
+     * Forgets the tracked timeouts of a session, the next call sends its timeouts command regardless
+     *
+     * @param driver target driver
+     */
+    public static void invalidate(WebDriver driver) {
+        states.remove(driver);
+    }
+
+    private static TimeoutState state(WebDriver driver) {
+        return states.computeIfAbsent(driver, session -> new TimeoutState());
+    }
+
+    public static void setZeroImplicitWait(boolean zeroImplicitWait) {
+        SessionTimeouts.zeroImplicitWait = zeroImplicitWait;
+    }
+
+    public static void setPollingImplicitWait(long pollingImplicitWait) {
+        SessionTimeouts.pollingImplicitWait = pollingImplicitWait;
+    }
+
+    public static boolean isZeroImplicitWait() {
+        return zeroImplicitWait;
+    }
+
+    public static long getPollingImplicitWait() {
+        return pollingImplicitWait;
+    }
+}
@@ -0,0 +1,22 @@
+package pickleib.enums;
+
+/**
+ * Input clearing strategies
+ * <p>
+ * backspace: sends one backspace per character of the current value (default)
+ * selectAllDelete: selects the whole value with a select-all chord and deletes it
+ * nativeSetter: empties the value through the native value setter and dispatches input & change events
+ */
+public enum ClearStrategy {
+    backspace,
+    selectAllDelete,
+    nativeSetter;
+
+    public static ClearStrategy fromString(String text) {
+        if (text != null)
+            for (ClearStrategy strategy:values())
+                if (strategy.name().equalsIgnoreCase(text))
+                    return strategy;
+        return null;
+    }
+}
@@ -4,4 +4,6 @@ public class PickleibException extends RuntimeException {
     public PickleibException(String errorMessage) {super(errorMessage);}
 
     public PickleibException(Exception errorMessage) {super(errorMessage);}
+
+    public PickleibException(String errorMessage, Exception cause) {super(errorMessage, cause);}
 }
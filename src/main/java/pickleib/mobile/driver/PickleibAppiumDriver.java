@@ -8,6 +8,7 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import pickleib.utilities.PropertyLoader;
+import pickleib.utilities.element.acquisition.ElementAcquisition;
 import pickleib.utilities.screenshot.ScreenCaptureUtility;
 import properties.PropertiesReader;
 import utils.*;
@@ -59,6 +60,7 @@ public abstract class PickleibAppiumDriver {
 
 	public static void terminate(){
 		log.info("Finalizing driver...");
+		ElementAcquisition.Reflections.invalidate(driver);
 		try {driver.quit();}
 		catch (Exception exception){exception.printStackTrace();}
 		finally {
@@ -68,6 +70,7 @@ public abstract class PickleibAppiumDriver {
 
 	public static void captureAndTerminate(boolean success, String screenshotTag){
 		log.info("Finalizing driver...");
+		ElementAcquisition.Reflections.invalidate(driver);
 		try {
 			capture.captureScreen(screenshotTag, "png", driver);
 			driver.quit();
@@ -3,20 +3,31 @@ package pickleib.utilities;
 import collections.Bundle;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import context.ContextStore;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.remote.SupportsContextSwitching;
 import org.jetbrains.annotations.NotNull;
+import org.jsoup.nodes.Element;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
+import pickleib.driver.DriverFactory;
+import pickleib.driver.SessionTimeouts;
+import pickleib.enums.ClearStrategy;
 import pickleib.enums.ElementState;
 import pickleib.exceptions.PickleibException;
 import pickleib.utilities.interfaces.functions.ScrollFunction;
+import pickleib.utilities.polling.BrowserWait;
+import pickleib.utilities.polling.Poller;
 import pickleib.utilities.screenshot.ScreenCaptureUtility;
+import pickleib.web.utilities.DomSnapshot;
+import pickleib.web.utilities.ElementGeometry;
 import utils.Printer;
 import utils.StringUtilities;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.StringJoiner;
@@ -24,10 +35,8 @@ import java.util.StringJoiner;
 import static pickleib.enums.ElementState.absent;
 import static pickleib.enums.ElementState.displayed;
 import static pickleib.utilities.platform.PlatformUtilities.*;
-import static pickleib.web.driver.WebDriverFactory.getDriverTimeout;
 import static utils.StringUtilities.Color.*;
 import static utils.StringUtilities.*;
-import static utils.reflection.ReflectionUtilities.iterativeConditionalInvocation;
 
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public abstract class Utilities {
@@ -45,6 +54,116 @@ public abstract class Utilities {
 
     public long elementTimeout = Long.parseLong(ContextStore.get("element-timeout", "15000"));
 
+    public ClearStrategy clearStrategy = Objects.requireNonNullElse(
+            ClearStrategy.fromString(ContextStore.get("clear-strategy", "backspace")),
+            ClearStrategy.backspace
+    );
+
+    /**
+     * multi-read verifications rule out mismatching texts from a DOM snapshot before reading live texts if true
+     */
+    public boolean domSnapshots = Boolean.parseBoolean(ContextStore.get("dom-snapshots", "false"));
+
+    /**
+     * form inputs are filled in a single script call if true
+     */
+    public boolean batchedFormFill = Boolean.parseBoolean(ContextStore.get("batched-form-fill", "false"));
+
+    /**
+     * fields that do not hold the expected value after a batched form fill are re-filled with keystrokes if true
+     */
+    public boolean formFillFidelity = Boolean.parseBoolean(ContextStore.get("form-fill-fidelity", "true"));
+
+    /**
+     * Sets each arguments[0] element to the matching arguments[1] value through native setters, dispatching
+     * focus, input, change & blur events. Returns a list of flags, false for the elements that were not set
+     * (inputs that do not hold free text such as checkboxes, radios, ranges, dates & files,
+     * disabled/read-only fields, non-editable elements)
+     */
+    private static final String batchFillScript =
+            "var elements = arguments[0], values = arguments[1], results = [];" +
+            "var textTypes = ['text', 'search', 'email', 'url', 'tel', 'password', 'number'];" +
+            "for (var i = 0; i < elements.length; i++) {" +
+            "  var element = elements[i], value = values[i], tag = element.tagName.toLowerCase();" +
+            "  var editable = tag === 'input' || tag === 'textarea' || tag === 'select';" +
+            "  if ((!editable && !element.isContentEditable) || element.disabled || element.readOnly ||" +
+            "      (tag === 'input' && textTypes.indexOf(element.type) < 0)) { results.push(false); continue; }" +
+            "  element.focus();" +
+            "  if (element.isContentEditable) element.textContent = value;" +
+            "  else {" +
+            "    var prototype = tag === 'textarea' ? HTMLTextAreaElement.prototype :" +
+            "        tag === 'select' ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+            "    var descriptor = Object.getOwnPropertyDescriptor(prototype, 'value');" +
+            "    if (descriptor && descriptor.set) descriptor.set.call(element, value); else element.value = value;" +
+            "  }" +
+            "  element.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  element.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  element.blur();" +
+            "  results.push(true);" +
+            "}" +
+            "return results;";
+
+    /**
+     * Returns the values (text content of content editable elements) of arguments[0] elements
+     */
+    private static final String readValuesScript =
+            "return Array.prototype.map.call(arguments[0], function (element) {" +
+            "  return element.isContentEditable ? element.textContent : element.value;" +
+            "});";
+
+    /**
+     * Empties the value of arguments[0] through the native value setter, dispatches input & change events
+     * and returns the resulting value
+     */
+    private static final String nativeClearScript =
+            "var element = arguments[0];" +
+            "if (element.isContentEditable) { element.textContent = ''; }" +
+            "else {" +
+            "  var prototype = element instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype :" +
+            "      element instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+            "  var descriptor = Object.getOwnPropertyDescriptor(prototype, 'value');" +
+            "  if (descriptor && descriptor.set) descriptor.set.call(element, ''); else element.value = '';" +
+            "}" +
+            "element.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "element.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "return element.isContentEditable ? element.textContent : element.value;";
+
+    /**
+     * Returns the indexed xPath of arguments[0] from the document element, e.g. /html[1]/body[1]/div[2]
+     */
+    private static final String xPathScript =
+            "var path = '';" +
+            "for (var node = arguments[0]; node && node.nodeType === Node.ELEMENT_NODE; node = node.parentElement) {" +
+            "  var index = 1;" +
+            "  for (var sibling = node.previousElementSibling; sibling; sibling = sibling.previousElementSibling)" +
+            "    if (sibling.localName === node.localName) index++;" +
+            "  path = '/' + node.localName + '[' + index + ']' + path;" +
+            "}" +
+            "return path;";
+
+    /**
+     * Returns the shortest CSS path of arguments[0] that is unique in its document, anchored to the nearest unique id
+     */
+    private static final String cssPathScript =
+            "var element = arguments[0], root = element.getRootNode(), path = '';" +
+            "function unique(selector) { try { return root.querySelectorAll(selector).length === 1; } catch (e) { return false; } }" +
+            "for (var node = element; node && node.nodeType === Node.ELEMENT_NODE; node = node.parentElement) {" +
+            "  if (node.id && unique('#' + CSS.escape(node.id))) return '#' + CSS.escape(node.id) + path;" +
+            "  var step = node.localName, sameTag = 0, index = 0;" +
+            "  for (var sibling = node.parentElement ? node.parentElement.firstElementChild : null; sibling; sibling = sibling.nextElementSibling)" +
+            "    if (sibling.localName === node.localName) { sameTag++; if (sibling === node) index = sameTag; }" +
+            "  if (sameTag > 1) step += ':nth-of-type(' + index + ')';" +
+            "  path = (node.parentElement ? ' > ' : '') + step + path;" +
+            "  if (unique(path.replace(/^ > /, ''))) return path.replace(/^ > /, '');" +
+            "}" +
+            "return path.replace(/^ > /, '');";
+
+    /**
+     * Returns the closest ancestor (or self) of arguments[0] whose class attribute contains arguments[1], null if there is none
+     */
+    private static final String parentByClassScript =
+            "return arguments[0].closest('[class*=\"' + CSS.escape(arguments[1]) + '\"]');";
+
     public Utilities(RemoteWebDriver driver, FluentWait<RemoteWebDriver> wait) {
         this.driver = driver;
         this.wait = wait;
@@ -89,34 +208,27 @@ public abstract class Utilities {
      * @throws TimeoutException if the element is not clickable within the specified timeout.
      */
     public void clickElement(WebElement element, boolean scroll) {
-        WebDriverException caughtException = null;
-        int counter = 0;
-        long initialTime = System.currentTimeMillis();
-        do {
-            try {
-                wait.until(ExpectedConditions.elementToBeClickable(element));
-                if (scroll) this.scroller.scroll(element).click();
-                else element.click();
-                return;
-            }
-            catch (WebDriverException webDriverException) {
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
-                } else if (!webDriverException.getClass().getName().equals(caughtException.getClass().getName())) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
-                }
-                counter++;
-            }
-        }
-        while (System.currentTimeMillis() - initialTime < elementTimeout);
-        if (counter > 0) log.warning("Iterated " + counter + " time(s)!");
-        log.warning(caughtException.getMessage());
-        throw new PickleibException(caughtException);
+        Poller poller = new Poller(elementTimeout);
+        boolean clicked = poller.isMet(() -> {
+            wait.until(ExpectedConditions.elementToBeClickable(element));
+            if (scroll) this.scroller.scroll(element).click();
+            else element.click();
+            return true;
+        });
+        if (clicked) return;
+        log.warning(poller.getLastException().getMessage());
+        throw new PickleibException(poller.getLastException());
     }
 
+    /**
+     * Checks if an element is fully in the viewport, the geometry is acquired in a single script outside native contexts
+     *
+     * @param element target element
+     * @return returns true if the element is in the viewport
+     */
     public boolean isElementInViewPort(WebElement element) {
+        if (!isNativeContext()) return ElementGeometry.capture(driver, element).isInViewport(0);
+
         int windowHeight = driver.manage().window().getSize().getHeight();
         int windowWidth = driver.manage().window().getSize().getWidth();
 
@@ -269,7 +381,20 @@ public abstract class Utilities {
      * @param verify       verifies the input text value equals to an expected text if true
      */
     public void clearFillInput(WebElement inputElement, String inputText, boolean scroll, boolean verify) {
-        fillInputElement(inputElement, inputText, scroll, true, verify);
+        fillInputElement(inputElement, inputText, scroll, clearStrategy, verify);
+    }
+
+    /**
+     * Clears and fills a given input
+     *
+     * @param inputElement  target input element
+     * @param inputText     input text
+     * @param scroll        If true, scrolls to the WebElement before clicking. If false, clicks directly without scrolling.
+     * @param verify        verifies the input text value equals to an expected text if true
+     * @param clearStrategy strategy used to clear the input
+     */
+    public void clearFillInput(WebElement inputElement, String inputText, boolean scroll, boolean verify, ClearStrategy clearStrategy) {
+        fillInputElement(inputElement, inputText, scroll, clearStrategy, verify);
     }
 
     /**
@@ -285,13 +410,28 @@ public abstract class Utilities {
      * @throws AssertionError if verification fails (inputText does not match the value attribute of inputElement).
      */
     public void fillInputElement(WebElement element, String inputText, boolean scroll, boolean clear, boolean verify) {
+        fillInputElement(element, inputText, scroll, clear ? clearStrategy : null, verify);
+    }
+
+    /**
+     * Fills the specified input WebElement with the given text.
+     *
+     * @param element The WebElement representing the input field.
+     * @param inputText The text to be entered into the input field.
+     * @param scroll If true, scrolls to the inputElement before filling. If false, does not scroll.
+     * @param clearStrategy Strategy used to clear the input field before entering text, the field is not cleared if null.
+     * @param verify If true, verifies that the entered text matches the value attribute of the inputElement. If false, skips verification.
+     */
+    public void fillInputElement(WebElement element, String inputText, boolean scroll, ClearStrategy clearStrategy, boolean verify) {
         wait.until(ExpectedConditions.visibilityOf(element));
         inputText = contextCheck(inputText);
         if (scroll) scroller.scroll(element);
-        if (clear) clearInputField(element);
+        if (clearStrategy != null) clearInputField(element, clearStrategy);
         element.sendKeys(inputText);
-        String inputValue =  element.getAttribute(getInputContentAttributeNameFor(getElementDriverType(element)));
-        assert !verify || inputText.equals(inputValue);
+        if (verify) {
+            String inputValue = element.getAttribute(getInputContentAttributeName(element));
+            assert inputText.equals(inputValue);
+        }
     }
 
     /**
@@ -325,62 +465,35 @@ public abstract class Utilities {
      * @param element target element
      * @param state   expected state
      * @return returns true if an element is in the expected state
-     */ //TODO: elementIs should use iterativeConditionalInvocation() instead of iterating in itself. (same for other similar methods).
+     */
     public Boolean elementIs(WebElement element, @NotNull ElementState state) {
+        boolean negativeCheck = switch (state) {
+            case disabled, unselected, absent -> true;
+            default -> false;
+        };
         long initialTime = System.currentTimeMillis();
-        String caughtException = null;
-        boolean timeout;
-        boolean condition = false;
-        boolean negativeCheck = false;
-        int counter = 0;
-        do { //TODO: Replace this with iterativeConditionalInvocation
-            if (condition || (counter > 1 && negativeCheck)) return true;
+        Boolean inBrowser = BrowserWait.waitForState(driver, element, state, elementTimeout);
+        if (inBrowser != null) return inBrowser;
+
+        Poller poller = new Poller(elementTimeout - (System.currentTimeMillis() - initialTime));
+        return SessionTimeouts.whilePolling(driver, () -> poller.isMet(() -> {
+            if (negativeCheck && poller.getFailureCount() > 1) return true;
             try {
-                driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
-                switch (state) {
-                    case enabled -> {
-                        negativeCheck = false;
-                        condition = element.isEnabled();
-                    }
-                    case displayed -> {
-                        negativeCheck = false;
-                        condition = element.isDisplayed();
-                    }
-                    case selected -> {
-                        negativeCheck = false;
-                        condition = element.isSelected();
-                    }
-                    case disabled -> {
-                        negativeCheck = true;
-                        condition = !element.isEnabled();
-                    }
-                    case unselected -> {
-                        negativeCheck = true;
-                        condition = !element.isSelected();
-                    }
-                    case absent -> {
-                        negativeCheck = true;
-                        condition = !element.isDisplayed();
-                    }
+                return switch (state) {
+                    case enabled -> element.isEnabled();
+                    case displayed -> element.isDisplayed();
+                    case selected -> element.isSelected();
+                    case disabled -> !element.isEnabled();
+                    case unselected -> !element.isSelected();
+                    case absent -> !element.isDisplayed();
                     default -> throw new EnumConstantNotPresentException(ElementState.class, state.name());
-                }
-            } catch (WebDriverException webDriverException) {
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                } else if (!webDriverException.getClass().getName().equals(caughtException)) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                } else if (state.equals(absent) && webDriverException.getClass().getName().equals("StaleElementReferenceException"))
-                    return true;
-                counter++;
-            } finally {
-                driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(getDriverTimeout()));
+                };
             }
-        }
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout));
-        if (counter > 0) log.warning("Iterated " + counter + " time(s)!");
-        return false;
+            catch (StaleElementReferenceException staleElementException) {
+                if (state.equals(absent)) return true;
+                throw staleElementException;
+            }
+        }));
     }
 
     /**
@@ -418,13 +531,68 @@ public abstract class Utilities {
      * @param element target element
      */
     public WebElement clearInputField(@NotNull WebElement element) {
+        return clearInputField(element, clearStrategy);
+    }
+
+    /**
+     * Clears an input element with a given strategy. The select-all & native setter strategies verify the value
+     * to be empty afterwards and fall back to the backspace strategy if it is not
+     * (they are only supported on web drivers, backspaces are used on mobile drivers).
+     *
+     * @param element       target element
+     * @param clearStrategy clearing strategy
+     */
+    public WebElement clearInputField(@NotNull WebElement element, @NotNull ClearStrategy clearStrategy) {
+        String attributeName = getInputContentAttributeName(element);
+        boolean web = !(driver instanceof AppiumDriver);
+        String inputValue = switch (web ? clearStrategy : ClearStrategy.backspace) {
+            case backspace -> {
+                deleteBackwards(element, element.getAttribute(attributeName));
+                yield null; // Backspaces are the fallback, so the value is not read back
+            }
+            case selectAllDelete -> {
+                Platform platform = getDriverPlatform(driver);
+                Keys modifier = platform != null && platform.is(Platform.MAC) ? Keys.COMMAND : Keys.CONTROL;
+                element.sendKeys(Keys.chord(modifier, "a"), Keys.DELETE);
+                yield element.getAttribute(attributeName);
+            }
+            case nativeSetter -> (String) driver.executeScript(nativeClearScript, element);
+        };
+        if (inputValue != null && !inputValue.isEmpty()) {
+            log.warning("Input could not be cleared by " + clearStrategy.name() + " strategy, using backspaces instead");
+            deleteBackwards(element, inputValue);
+            inputValue = element.getAttribute(attributeName);
+            if (inputValue != null && !inputValue.isEmpty())
+                log.warning("Input still contains " + highlighted(BLUE, inputValue) + highlighted(YELLOW, " after clearing!"));
+        }
+        return element;
+    }
+
+    /**
+     * Sends one backspace per character of a given value (plus one)
+     *
+     * @param element    target element
+     * @param inputValue current value of the element
+     */
+    private void deleteBackwards(WebElement element, String inputValue) {
         StringJoiner deletion = new StringJoiner(Keys.BACK_SPACE);
-        String inputValue =  element.getAttribute(getInputContentAttributeNameFor(getElementDriverType(element)));
         if (inputValue != null)
             for (int i = 0; i <= inputValue.length(); i++)
                 deletion.add("");
         element.sendKeys(deletion.toString());
-        return element;
+    }
+
+    /**
+     * Acquires the name of the attribute that holds the input content, based on the driver platform.
+     * The element platform is only resolved if the driver platform is not specific.
+     *
+     * @param element target element
+     * @return returns the attribute name
+     */
+    private String getInputContentAttributeName(WebElement element) {
+        DriverFactory.DriverType driverType = getDriverPlatformParentType(driver);
+        if (driverType == null) driverType = getElementDriverType(element);
+        return getInputContentAttributeNameFor(driverType);
     }
 
     /**
@@ -582,6 +750,50 @@ public abstract class Utilities {
      * @return returns the targeted parent element
      */
     public WebElement getParentByClass(WebElement childElement, String current, String parentSelectorClass) {
+        if (isNativeContext()) return getParentByClassRecursively(childElement, current, parentSelectorClass);
+        return (WebElement) driver.executeScript(parentByClassScript, childElement, parentSelectorClass);
+    }
+
+    /**
+     * Generate a xPath for a given element
+     *
+     * @param childElement web element gets generated a xPath from
+     * @param current      empty string (at the beginning)
+     * @return returns generated xPath
+     */
+    public String generateXPath(@NotNull WebElement childElement, String current) {
+        if (current == null) current = "";
+        if (isNativeContext()) return generateXPathRecursively(childElement, current);
+        return driver.executeScript(xPathScript, childElement) + current;
+    }
+
+    /**
+     * Generates the shortest CSS path that uniquely identifies a given element in its document
+     *
+     * @param element target element
+     * @return returns generated CSS path
+     * @throws PickleibException if the driver is in a native context
+     */
+    public String generateCssPath(@NotNull WebElement element) {
+        if (isNativeContext()) throw new PickleibException("CSS paths cannot be generated in native contexts!");
+        return (String) driver.executeScript(cssPathScript, element);
+    }
+
+    /**
+     * Checks if the driver is a mobile driver in a native context, where scripts cannot be executed
+     *
+     * @return returns true if the driver is in a native context
+     */
+    protected boolean isNativeContext() {
+        if (!(driver instanceof AppiumDriver)) return false;
+        if (driver instanceof SupportsContextSwitching contextSwitching) {
+            String context = contextSwitching.getContext();
+            return context == null || context.startsWith("NATIVE");
+        }
+        return true;
+    }
+
+    private WebElement getParentByClassRecursively(WebElement childElement, String current, String parentSelectorClass) {
 
         if (current == null) {
             current = "";
@@ -599,20 +811,13 @@ public abstract class Utilities {
             String childrenElementTag = childrenElement.getTagName();
             if (childTag.equals(childrenElementTag)) count++;
             if (childElement.equals(childrenElement)) {
-                return getParentByClass(parentElement, "/" + childTag + "[" + count + "]" + current, parentSelectorClass);
+                return getParentByClassRecursively(parentElement, "/" + childTag + "[" + count + "]" + current, parentSelectorClass);
             }
         }
         return null;
     }
 
-    /**
-     * Generate a xPath for a given element
-     *
-     * @param childElement web element gets generated a xPath from
-     * @param current      empty string (at the beginning)
-     * @return returns generated xPath
-     */
-    public String generateXPath(@NotNull WebElement childElement, String current) {
+    private String generateXPathRecursively(@NotNull WebElement childElement, String current) {
         String childTag = childElement.getTagName();
         if (childTag.equals("html")) {
             return "/html[1]" + current;
@@ -624,7 +829,7 @@ public abstract class Utilities {
             String childrenElementTag = childrenElement.getTagName();
             if (childTag.equals(childrenElementTag)) count++;
             if (childElement.equals(childrenElement)) {
-                return generateXPath(parentElement, "/" + childTag + "[" + count + "]" + current);
+                return generateXPathRecursively(parentElement, "/" + childTag + "[" + count + "]" + current);
             }
         }
         return null;
@@ -713,6 +918,14 @@ public abstract class Utilities {
     public void verifyListedElementText(
             List<Bundle<WebElement, String, String>> bundles,
             String pageName) {
+        DomSnapshot snapshot = captureSnapshot(null, bundles.stream().map(Bundle::alpha).toList());
+        if (snapshot != null)
+            for (int index = 0; index < bundles.size(); index++) {
+                Bundle<WebElement, String, String> bundle = bundles.get(index);
+                Element reference = snapshot.reference(index);
+                if (reference != null && !DomSnapshot.mayContain(reference, bundle.theta()))
+                    throw new PickleibException("The " + bundle.beta() + " does not contain text '" + bundle.theta() + "' ");
+            }
         for (Bundle<WebElement, String, String> bundle : bundles) {
             String elementName = bundle.beta();
             String expectedText = bundle.theta();
@@ -723,9 +936,29 @@ public abstract class Utilities {
                     highlighted(GRAY, " with the text: ") +
                     highlighted(BLUE, expectedText)
             );
-            if (!expectedText.equals(bundle.alpha().getText()))
-                throw new PickleibException("The " + bundle.alpha().getText() + " does not contain text '");
-            log.success("Text of the element" + bundle.alpha().getText() + " was verified!");
+            String text = bundle.alpha().getText();
+            if (!expectedText.equals(text))
+                throw new PickleibException("The " + text + " does not contain text '");
+            log.success("Text of the element" + text + " was verified!");
+        }
+    }
+
+    /**
+     * Captures a DOM snapshot for multi-read verifications. Snapshot texts are not rendering aware,
+     * they are only used to fail fast, every pass is confirmed with a live getText().
+     *
+     * @param root       snapshot root, the whole page if null
+     * @param references reference elements
+     * @return returns the snapshot, null if snapshots are disabled or not supported by the driver
+     */
+    protected DomSnapshot captureSnapshot(WebElement root, List<WebElement> references) {
+        if (!domSnapshots || driver instanceof AppiumDriver) return null;
+        try {
+            return DomSnapshot.capture(driver, root, references);
+        }
+        catch (WebDriverException exception) {
+            log.warning("DOM snapshot could not be captured (" + exception.getClass().getSimpleName() + ")");
+            return null;
         }
     }
 
@@ -736,6 +969,10 @@ public abstract class Utilities {
      * @param pageName specified page instance name
      */
     public void fillInputForm(List<Bundle<WebElement, String, String>> bundles, String pageName) {
+        if (batchedFormFill && !(driver instanceof AppiumDriver)) {
+            fillInputFormBatched(bundles, pageName, formFillFidelity);
+            return;
+        }
         String inputName;
         String input;
         for (Bundle<WebElement, String, String> bundle : bundles) {
@@ -754,6 +991,85 @@ public abstract class Utilities {
         }
     }
 
+    /**
+     * Fills form inputs on the {page name} in a single script call, values are set through native setters
+     * (followed by focus, input, change & blur events) and verified by a single read-back.
+     * Inputs that do not hold free text (checkboxes, radios, ranges, dates, files...) and elements that cannot be set
+     * natively are filled with keystrokes.
+     *
+     * @param bundles  list of bundles where input element, input text and input name are stored
+     * @param pageName specified page instance name
+     * @param fidelity fields that do not hold the expected value after the batch are re-filled with keystrokes if true,
+     *                 a PickleibException is thrown for them otherwise
+     */
+    public void fillInputFormBatched(List<Bundle<WebElement, String, String>> bundles, String pageName, boolean fidelity) {
+        log.info("Filling " +
+                highlighted(BLUE, String.valueOf(bundles.size())) +
+                highlighted(GRAY, " input(s) on the ") +
+                highlighted(BLUE, pageName) +
+                highlighted(GRAY, " in a single batch")
+        );
+        List<WebElement> elements = new ArrayList<>();
+        List<String> inputs = new ArrayList<>();
+        for (Bundle<WebElement, String, String> bundle : bundles) {
+            WebElement element = bundle.alpha();
+            // Proxies are resolved once, so that both scripts reuse the same references
+            elements.add(element instanceof WrapsElement wrapper ? wrapper.getWrappedElement() : element);
+            inputs.add(contextCheck(bundle.beta()));
+        }
+
+        List<?> filled = (List<?>) driver.executeScript(batchFillScript, elements, inputs);
+        List<Integer> keystrokeFields = new ArrayList<>();
+        for (int index = 0; index < elements.size(); index++)
+            if (!Boolean.TRUE.equals(filled.get(index))) keystrokeFields.add(index);
+
+        List<?> values = (List<?>) driver.executeScript(readValuesScript, elements);
+        List<String> mismatches = new ArrayList<>();
+        for (int index = 0; index < elements.size(); index++) {
+            if (keystrokeFields.contains(index) || Objects.equals(values.get(index), inputs.get(index))) continue;
+            if (fidelity) keystrokeFields.add(index);
+            else mismatches.add(bundles.get(index).theta() + " -> " + values.get(index));
+        }
+        if (!mismatches.isEmpty())
+            throw new PickleibException("Form inputs do not hold the expected values on the " + pageName + ": " + mismatches);
+
+        for (Integer index : keystrokeFields) {
+            log.info("Filling " +
+                    highlighted(BLUE, bundles.get(index).theta()) +
+                    highlighted(GRAY, " with keystrokes")
+            );
+            clearFillInput(elements.get(index), bundles.get(index).beta(), false, true, clearStrategy); // Context checks the input once
+        }
+    }
+
+    /**
+     * Fill form input on the {page name}
+     *
+     * @param bundles       list of bundles where input element, input name and input texts are stored
+     * @param pageName      specified page instance name
+     * @param clearStrategy strategy used to clear the inputs
+     */
+    public void fillInputForm(List<Bundle<WebElement, String, String>> bundles, String pageName, ClearStrategy clearStrategy) {
+        String inputName;
+        String input;
+        for (Bundle<WebElement, String, String> bundle : bundles) {
+            log.info("Filling " +
+                    highlighted(BLUE, bundle.theta()) +
+                    highlighted(GRAY, " on the ") +
+                    highlighted(BLUE, pageName) +
+                    highlighted(GRAY, " with the text: ") +
+                    highlighted(BLUE, bundle.beta())
+            );
+            pageName = firstLetterDeCapped(pageName);
+            clearFillInput(bundle.alpha(), //Input Element
+                    bundle.beta(), //Input Text
+                    false,
+                    true,
+                    clearStrategy
+            );
+        }
+    }
+
     /**
      * Verify that element {element name} on the {page name} has {attribute value} value for its {attribute name} attribute
      *
@@ -766,35 +1082,20 @@ public abstract class Utilities {
             String attributeName,
             String attributeValue) {
 
+        String expectedValue = contextCheck(attributeValue);
         long initialTime = System.currentTimeMillis();
-        String caughtException = null;
-        int counter = 0;
-        attributeValue = contextCheck(attributeValue);
-        do {
-            try {
-                if (Objects.equals(element.getAttribute(attributeName), attributeValue))
-                    return element.getAttribute(attributeName).contains(attributeValue);
-            } catch (WebDriverException webDriverException) {
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                } else if (!webDriverException.getClass().getName().equals(caughtException)) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                }
-                waitFor(0.5);
-                counter++;
-            }
-        }
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout));
-        if (counter > 0) log.warning("Iterated " + counter + " time(s)!");
+        Boolean inBrowser = BrowserWait.waitForAttribute(driver, element, attributeName, expectedValue, elementTimeout);
+        if (Boolean.TRUE.equals(inBrowser)) return true;
+
+        Poller poller = new Poller(inBrowser == null ? elementTimeout - (System.currentTimeMillis() - initialTime) : 0);
+        if (poller.isMet(() -> Objects.equals(element.getAttribute(attributeName), expectedValue))) return true;
         log.warning("Element does not contain " +
                 highlighted(BLUE, attributeName) +
                 highlighted(GRAY, " -> ") +
-                highlighted(BLUE, attributeValue) +
+                highlighted(BLUE, expectedValue) +
                 highlighted(GRAY, " attribute pair.")
         );
-        log.warning(caughtException);
+        if (poller.getLastException() != null) log.warning(poller.getLastException().getClass().getName());
         return false;
     }
 
@@ -810,38 +1111,20 @@ public abstract class Utilities {
             String attributeName,
             String value) {
 
-        long initialTime = System.currentTimeMillis();
-        String caughtException = null;
-        int counter = 0;
-        value = contextCheck(value);
-        //TODO replace do-while with iterativeConditionalInvocation() method
-        do {
-            try {
-                driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
-                return elementName.getAttribute(attributeName).contains(value);
-            } catch (WebDriverException webDriverException) {
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                } else if (!webDriverException.getClass().getName().equals(caughtException)) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                }
-                waitFor(0.5);
-                counter++;
-            } finally {
-                driver.manage().timeouts().implicitlyWait(Duration.ofMillis(elementTimeout));
-            }
-        }
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout));
-        if (counter > 0) log.warning("Iterated " + counter + " time(s)!");
+        String expectedValue = contextCheck(value);
+        Poller poller = new Poller(elementTimeout);
+        String attribute = SessionTimeouts.whilePolling(
+                driver,
+                () -> poller.until(() -> elementName.getAttribute(attributeName))
+        );
+        if (attribute != null) return attribute.contains(expectedValue);
         log.warning("Element attribute does not contain " +
                 highlighted(BLUE, attributeName) +
                 highlighted(GRAY, " -> ") +
-                highlighted(BLUE, value) +
+                highlighted(BLUE, expectedValue) +
                 highlighted(GRAY, " value.")
         );
-        log.warning(caughtException);
+        if (poller.getLastException() != null) log.warning(poller.getLastException().getClass().getName());
         return false;
     }
 }
@@ -4,33 +4,73 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import context.ContextStore;
+import io.appium.java_client.AppiumDriver;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.pagefactory.ByAll;
 import pickleib.enums.PrimarySelectorType;
 import pickleib.enums.SelectorType;
 import pickleib.exceptions.PickleibException;
+import pickleib.mobile.driver.PickleibAppiumDriver;
 import pickleib.utilities.interfaces.repository.PageRepository;
+import pickleib.utilities.polling.Poller;
+import pickleib.web.driver.PickleibWebDriver;
 import collections.Bundle;
 import collections.Pair;
 import utils.Printer;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import static utils.StringUtilities.*;
 import static utils.reflection.ReflectionUtilities.getFieldValue;
-import static utils.reflection.ReflectionUtilities.getFields;
 import static utils.StringUtilities.Color.*;
 
 @SuppressWarnings("unused")
 public class ElementAcquisition {
 
     static long elementTimeout = Long.parseLong(ContextStore.get("element-timeout", "15000"));
+    static boolean batchedListSearch = Boolean.parseBoolean(ContextStore.get("batched-list-search", "true"));
     static Printer log = new Printer(ElementAcquisition.class);
 
+    /**
+     * Returns the index of the first listed element (arguments[0]) whose rendered text equals (ignoring case)
+     * or contains the given text (arguments[1]), -1 if there is none
+     */
+    private static final String namedElementIndexScript =
+            "var items = arguments[0], target = arguments[1], lowerTarget = target.toLowerCase();" +
+            "for (var i = 0; i < items.length; i++) {" +
+            "  var item = items[i];" +
+            "  var text = item.getClientRects().length === 0 ? '' : (item.innerText !== undefined ? item.innerText : item.textContent) || '';" +
+            "  text = text.trim();" +
+            "  if (text.toLowerCase() === lowerTarget || text.indexOf(target) !== -1) return i;" +
+            "}" +
+            "return -1;";
+
+    /**
+     * Returns the index of the first listed element (arguments[0]) whose attribute/property (arguments[1])
+     * equals (ignoring case) or contains the given value (arguments[2]), -1 if there is none
+     */
+    private static final String attributeElementIndexScript =
+            "var items = arguments[0], name = arguments[1], target = arguments[2], lowerTarget = target.toLowerCase();" +
+            "for (var i = 0; i < items.length; i++) {" +
+            "  var item = items[i], property = item[name], value;" +
+            "  if (typeof property === 'boolean') value = property ? 'true' : null;" +
+            "  else if (property != null && typeof property !== 'object' && typeof property !== 'function') value = String(property);" +
+            "  else value = item.getAttribute(name);" +
+            "  if (value != null && (value.toLowerCase() === lowerTarget || value.indexOf(target) !== -1)) return i;" +
+            "}" +
+            "return -1;";
+
     /**
      * Acquire listed component by the text of its given child element
      *
@@ -48,17 +88,15 @@ public class ElementAcquisition {
             String elementFieldName
     ){
         log.info("Acquiring component by attribute " + highlighted(BLUE, attributeName + " -> " + attributeValue));
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        while (!timeout){
+        Component match = new Poller(elementTimeout).until(() -> {
             for (Component component : items) {
-                Map<String, Object> componentFields = getFields(component);
-                WebElement element = (WebElement) componentFields.get(elementFieldName);
+                WebElement element = (WebElement) FieldAccessors.read(component, elementFieldName);
                 String attribute = element.getAttribute(attributeName);
-                if (attribute.equals(attributeValue)) return component;
+                if (attributeValue.equals(attribute)) return component;
             }
-            if (System.currentTimeMillis() - initialTime > elementTimeout) timeout = true;
-        }
+            return null;
+        });
+        if (match != null) return match;
         throw new NoSuchElementException("No component with " + attributeName + " : " + attributeValue + " could be found!");
     }
 
@@ -72,26 +110,17 @@ public class ElementAcquisition {
      */
     public static WebElement acquireElementUsingAttributeAmongst(List<WebElement> items, String attributeName, String attributeValue){
         log.info("Acquiring element called " + markup(BLUE, attributeValue) + " using its " + markup(BLUE, attributeName) + " attribute");
-        boolean condition = true;
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        WebDriverException caughtException = null;
-        int counter = 0;
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout)){
-            try {
-                for (WebElement selection : items) {
+        WebElement match = findInList(
+                items,
+                selection -> {
                     String attribute = selection.getAttribute(attributeName);
-                    if (attribute != null && (attribute.equalsIgnoreCase(attributeValue) || attribute.contains(attributeValue))) return selection;
-                }
-            }
-            catch (WebDriverException webDriverException){
-                if (counter != 0 && webDriverException.getClass().getName().equals(caughtException.getClass().getName()))
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-
-                caughtException = webDriverException;
-                counter++;
-            }
-        }
+                    return attribute != null && (attribute.equalsIgnoreCase(attributeValue) || attribute.contains(attributeValue));
+                },
+                attributeElementIndexScript,
+                attributeName,
+                attributeValue
+        );
+        if (match != null) return match;
         throw new NoSuchElementException("No element with the attributes '" + attributeName + " : " + attributeValue + "' could be found!");
     }
 
@@ -103,31 +132,79 @@ public class ElementAcquisition {
      * @return returns the selected element
      */
     public static WebElement acquireNamedElementAmongst(List<WebElement> items, String selectionName){
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        WebDriverException caughtException = null;
-        int counter = 0;
-        do {
-            try {
-                for (WebElement selection : items) {
+        WebElement match = findInList(
+                items,
+                selection -> {
                     String text = selection.getText();
-                    if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selection;
-                }
-            }
-            catch (WebDriverException webDriverException){
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
+                    return text.equalsIgnoreCase(selectionName) || text.contains(selectionName);
+                },
+                namedElementIndexScript,
+                selectionName
+        );
+        if (match != null) return match;
+        throw new NoSuchElementException("No element with text/name '" + selectionName + "' could be found!");
+    }
+
+    /**
+     * Polls a list for the first element that matches a condition.
+     * The list is searched by a single script call if the driver supports it, element by element otherwise.
+     *
+     * @param items listed elements
+     * @param matcher element-wise match condition
+     * @param script batched search script, equivalent of the match condition
+     * @param arguments rest of the script arguments
+     * @return returns the matching element, null if there is none
+     */
+    private static WebElement findInList(
+            List<WebElement> items,
+            Predicate<WebElement> matcher,
+            String script,
+            Object... arguments
+    ){
+        AtomicBoolean batched = new AtomicBoolean(batchedListSearch);
+        return new Poller(elementTimeout).until(() -> {
+            if (batched.get()) {
+                List<WebElement> selections = new ArrayList<>(items);
+                try {
+                    Integer index = findIndexInBrowser(selections, script, arguments);
+                    if (index != null) return index >= 0 ? selections.get(index) : null;
                 }
-                else if (!webDriverException.getClass().getName().equals(caughtException.getClass().getName())){
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException;
+                catch (JavascriptException javascriptException) {
+                    log.warning("Batched search failed, falling back to element-wise search (" + javascriptException.getClass().getSimpleName() + ")");
                 }
-                counter++;
+                batched.set(false);
             }
-        }
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout));
-        throw new NoSuchElementException("No element with text/name '" + selectionName + "' could be found!");
+            for (WebElement selection : items) if (matcher.test(selection)) return selection;
+            return null;
+        });
+    }
+
+    /**
+     * Evaluates a list search script against all listed elements in a single round trip
+     *
+     * @param items listed elements
+     * @param script search script, receives the list as the first argument & returns the matching index
+     * @param arguments rest of the script arguments
+     * @return returns the matching index (-1 if there is no match), null if the elements do not support script execution
+     */
+    private static Integer findIndexInBrowser(List<WebElement> items, String script, Object... arguments){
+        if (items.isEmpty()) return -1;
+        if (!(items.get(0) instanceof WrapsDriver wrapsDriver)) return null;
+        WebDriver driver = wrapsDriver.getWrappedDriver();
+        if (!(driver instanceof JavascriptExecutor executor) || driver instanceof AppiumDriver) return null;
+        Object[] scriptArguments = new Object[arguments.length + 1];
+        scriptArguments[0] = items;
+        System.arraycopy(arguments, 0, scriptArguments, 1, arguments.length);
+        Object index = executor.executeScript(script, scriptArguments);
+        return index instanceof Number number ? number.intValue() : null;
+    }
+
+    public static void setBatchedListSearch(boolean batchedListSearch) {
+        ElementAcquisition.batchedListSearch = batchedListSearch;
+    }
+
+    public static boolean isBatchedListSearch() {
+        return batchedListSearch;
     }
 
     /**
@@ -142,25 +219,14 @@ public class ElementAcquisition {
             String selectionName
     ){
         log.info("Acquiring component called " + highlighted(BLUE, selectionName));
-        boolean timeout = false;
-        long initialTime = System.currentTimeMillis();
-        WebDriverException caughtException = null;
-        int counter = 0;
-        while (!(System.currentTimeMillis() - initialTime > elementTimeout)){
-            try {
-                for (Component selection : items) {
-                    String text = selection.getText();
-                    if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selection;
-                }
+        Component match = new Poller(elementTimeout).until(() -> {
+            for (Component selection : items) {
+                String text = selection.getText();
+                if (text.equalsIgnoreCase(selectionName) || text.contains(selectionName)) return selection;
             }
-            catch (WebDriverException webDriverException){
-                if (counter != 0 && webDriverException.getClass().getName().equals(caughtException.getClass().getName()))
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-
-                caughtException = webDriverException;
-                counter++;
-            }
-        }
+            return null;
+        });
+        if (match != null) return match;
         throw new NoSuchElementException("No component with text/name '" + selectionName + "' could be found!");
     }
 
@@ -669,12 +735,14 @@ public class ElementAcquisition {
 
     public static class PageObjectJson {
 
-        static RemoteWebDriver driver;
-        static JsonObject objectRepository;
+        RemoteWebDriver driver;
+        JsonObject objectRepository;
+        JsonRepositoryIndex repositoryIndex;
 
         public PageObjectJson(RemoteWebDriver driver, JsonObject objectRepository) {
-            PageObjectJson.driver = driver;
-            PageObjectJson.objectRepository = objectRepository;
+            this.driver = driver;
+            this.objectRepository = objectRepository;
+            this.repositoryIndex = JsonRepositoryIndex.of(objectRepository);
         }
 
         /**
@@ -692,12 +760,46 @@ public class ElementAcquisition {
                     highlighted(GRAY," from the ") +
                     highlighted(BLUE, pageName)
             );
-            JsonObject elementJson = getElementJson(elementName, pageName, objectRepository);
-            assert elementJson != null;
-            ByAll byAll;
-            if (selectorTypes.length > 0) byAll = getByAll(elementJson, selectorTypes);
-            else byAll = getByAll(elementJson, SelectorType.xpath, SelectorType.css, SelectorType.text);
-            return driver.findElement(byAll);
+            JsonRepositoryIndex.CompiledElement element = repositoryIndex.getElement(elementName, pageName);
+            if (selectorTypes.length == 0)
+                selectorTypes = new SelectorType[]{SelectorType.xpath, SelectorType.css, SelectorType.text};
+            SelectorType[] requestedTypes = selectorTypes;
+            return PickleibElement.of(
+                    driver,
+                    () -> {
+                        if (!LocatorStats.isEnabled()) return driver.findElement(element.getByAll(requestedTypes));
+                        return findByLearnedOrder(element, LocatorStats.order(pageName, elementName, requestedTypes));
+                    },
+                    elementName + " of the " + pageName
+            );
+        }
+
+        /**
+         * Tries the locators of an element in a given order like {@link ByAll} does,
+         * recording which selector type resolved the element
+         *
+         * @param element compiled element
+         * @param selectorTypes ordered selector types
+         * @return returns the first element found
+         * @throws NoSuchElementException if none of the locators resolve an element
+         */
+        private WebElement findByLearnedOrder(JsonRepositoryIndex.CompiledElement element, SelectorType... selectorTypes) {
+            for (SelectorType selectorType : selectorTypes) {
+                By locator = element.locators().get(selectorType);
+                if (locator == null) continue;
+                long start = System.currentTimeMillis();
+                List<WebElement> elements = driver.findElements(locator);
+                boolean resolved = !elements.isEmpty();
+                LocatorStats.record(
+                        element.pageName(),
+                        element.elementName(),
+                        selectorType,
+                        resolved,
+                        System.currentTimeMillis() - start
+                );
+                if (resolved) return elements.get(0);
+            }
+            throw new NoSuchElementException("Cannot locate an element using " + element.getByAll(selectorTypes));
         }
 
         /**
@@ -715,9 +817,7 @@ public class ElementAcquisition {
                     highlighted(GRAY," from the ") +
                     highlighted(BLUE, pageName)
             );
-            JsonObject elementJson = getElementJson(elementName, pageName, objectRepository);
-            assert elementJson != null;
-            ByAll byAll = getByAll(elementJson, selectorTypes);
+            ByAll byAll = repositoryIndex.getElement(elementName, pageName).getByAll(selectorTypes);
             return driver.findElements(byAll);
         }
 
@@ -734,29 +834,7 @@ public class ElementAcquisition {
          * @see SelectorType
          */
         public ByAll getByAll(JsonObject elementJson, SelectorType... selectorTypes){
-            List<By> locators = new ArrayList<>();
-            for (SelectorType selectorType:selectorTypes) {
-                try {
-                    By locator;
-                    switch (selectorType){
-                        case id ->          locator = By.id(elementJson.get("id").getAsJsonPrimitive().getAsString());
-                        case name ->        locator = By.name(elementJson.get("name").getAsJsonPrimitive().getAsString());
-                        case tagName ->     locator = By.tagName(elementJson.get("tagName").getAsJsonPrimitive().getAsString());
-                        case className ->   locator = By.className(elementJson.get("className").getAsJsonPrimitive().getAsString());
-                        case css ->         locator = By.cssSelector(elementJson.get("cssSelector").getAsJsonPrimitive().getAsString());
-                        case xpath ->       locator = By.xpath(elementJson.get("xpath").getAsJsonPrimitive().getAsString());
-                        case text -> {
-                            String text = elementJson.get("text").getAsJsonPrimitive().getAsString();
-                            locator = By.xpath("//*[text()='" + text + "']");
-                        }
-                        default -> throw new EnumConstantNotPresentException(SelectorType.class, selectorType.name());
-                    }
-                    locators.add(locator);
-                }
-                catch (NullPointerException | IllegalStateException ignored){}
-
-            }
-            return new ByAll(locators.toArray(new By[0]));
+            return JsonRepositoryIndex.byAll(JsonRepositoryIndex.compileLocators(elementJson), selectorTypes);
         }
 
         /**
@@ -774,7 +852,7 @@ public class ElementAcquisition {
                 case xpath ->   locator = By.xpath(generateXPathByAttributes(attributePairs));
                 default -> throw new EnumConstantNotPresentException(PrimarySelectorType.class, selectorType.name());
             }
-            return driver.findElement(locator);
+            return PickleibElement.of(driver, () -> driver.findElement(locator), locator.toString());
         }
 
         /**
@@ -868,13 +946,108 @@ public class ElementAcquisition {
     public static class Reflections<ObjectRepository extends PageRepository> {
         private final Class<ObjectRepository> pageRepositoryClass;
 
+        /**
+         * determines if the object repository instances are reused within a driver session
+         */
+        static boolean cacheRepository = Boolean.parseBoolean(ContextStore.get("cache-object-repository", "true"));
+
+        /**
+         * determines if only the requested page objects are instantiated, instead of the whole object repository
+         */
+        static boolean lazyPageInstantiation = Boolean.parseBoolean(ContextStore.get("lazy-page-instantiation", "false"));
+
+        /**
+         * Repository & page object instances, mapped by the driver sessions they were created in
+         */
+        private static final Map<RemoteWebDriver, Map<InstanceKey, Object>> sessionInstances = new ConcurrentHashMap<>();
+
+        /**
+         * Cache key of a repository (null page name) or page object instance
+         *
+         * @param type repository class
+         * @param pageName name of the page instance
+         */
+        private record InstanceKey(Class<?> type, String pageName) {}
+
         public Reflections(Class<ObjectRepository> pageRepository) {
             this.pageRepositoryClass = pageRepository;
         }
 
+        /**
+         * Acquires the object repository instance of the current driver session,
+         * the repository is instantiated once per session
+         *
+         * @return returns the object repository
+         */
+        @SuppressWarnings("unchecked")
         protected ObjectRepository getObjectRepository(){
+            Map<InstanceKey, Object> instances = getSessionInstances();
+            if (instances == null) return instantiate(pageRepositoryClass);
+            return (ObjectRepository) instances.computeIfAbsent(
+                    new InstanceKey(pageRepositoryClass, null),
+                    key -> instantiate(pageRepositoryClass)
+            );
+        }
+
+        /**
+         * Acquires a page object from the object repository.
+         * If lazy page instantiation is enabled, only the requested page object is instantiated
+         * (requires the page object to have a no-arg constructor, the whole repository is instantiated otherwise).
+         *
+         * @param pageName name of the page instance
+         * @return returns the page object
+         */
+        protected Object getPageObject(String pageName){
+            Object pageObject;
+            Class<?> pageClass = FieldAccessors.of(pageRepositoryClass).typeOf(pageName);
+            Map<InstanceKey, Object> instances = getSessionInstances();
+            if (lazyPageInstantiation && instances != null && pageClass != null && hasDefaultConstructor(pageClass))
+                pageObject = instances.computeIfAbsent(
+                        new InstanceKey(pageRepositoryClass, pageName),
+                        key -> instantiate(pageClass)
+                );
+            else pageObject = FieldAccessors.read(getObjectRepository(), pageName);
+            if (pageObject == null)
+                throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
+            return pageObject;
+        }
+
+        /**
+         * Drops the repository & page object instances created in a given driver session
+         *
+         * @param driver session driver
+         */
+        public static void invalidate(RemoteWebDriver driver) {
+            if (driver != null) sessionInstances.remove(driver);
+        }
+
+        /**
+         * Drops all cached repository & page object instances
+         */
+        public static void invalidateAll() {
+            sessionInstances.clear();
+        }
+
+        private static Map<InstanceKey, Object> getSessionInstances(){
+            if (!cacheRepository) return null;
+            sessionInstances.keySet().removeIf(driver -> driver.getSessionId() == null);
+            RemoteWebDriver driver = PickleibWebDriver.get();
+            if (driver == null) driver = PickleibAppiumDriver.get();
+            if (driver == null) return null;
+            return sessionInstances.computeIfAbsent(driver, session -> new ConcurrentHashMap<>());
+        }
+
+        private static boolean hasDefaultConstructor(Class<?> type){
             try {
-                return pageRepositoryClass.getConstructor().newInstance();
+                type.getConstructor();
+                return true;
+            }
+            catch (NoSuchMethodException exception) {return false;}
+        }
+
+        private static <Type> Type instantiate(Class<Type> type){
+            try {
+                return type.getConstructor().newInstance();
             }
             catch (
                     InstantiationException |
@@ -886,6 +1059,22 @@ public class ElementAcquisition {
             }
         }
 
+        public static void setCacheRepository(boolean cacheRepository) {
+            Reflections.cacheRepository = cacheRepository;
+        }
+
+        public static void setLazyPageInstantiation(boolean lazyPageInstantiation) {
+            Reflections.lazyPageInstantiation = lazyPageInstantiation;
+        }
+
+        public static boolean isCacheRepository() {
+            return cacheRepository;
+        }
+
+        public static boolean isLazyPageInstantiation() {
+            return lazyPageInstantiation;
+        }
+
         /**
          * Acquires an element from a given page
          *
@@ -894,13 +1083,10 @@ public class ElementAcquisition {
          * @return returns the element
          */
         public WebElement getElementFromPage(String elementFieldName, String pageName){
-            Map<String, Object> pageFields;
-            Object pageObject = getFields(getObjectRepository()).get(pageName);
-            if (pageObject != null) pageFields = getFields(pageObject);
-            else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-            if (pageFields.get(elementFieldName) == null)
+            Object element = FieldAccessors.read(getPageObject(pageName), elementFieldName);
+            if (element == null)
                 throw new PickleibException("The " + highlighted(YELLOW, pageName) + " page object does not contain " + highlighted(YELLOW, elementFieldName) + " element!");
-            return (WebElement) pageFields.get(elementFieldName);
+            return (WebElement) element;
         }
 
         /**
@@ -912,14 +1098,11 @@ public class ElementAcquisition {
          */
         @SuppressWarnings("unchecked")
         public List<WebElement> getElementsFromPage(String elementListFieldName, String pageName){
-            Map<String, Object> pageFields;
             pageName = firstLetterDeCapped(pageName);
-            Object pageObject = getFields(getObjectRepository()).get(pageName);
-            if (pageObject != null) pageFields = getFields(pageObject);
-            else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-            if (pageFields.get(elementListFieldName) == null)
+            Object elements = FieldAccessors.read(getPageObject(pageName), elementListFieldName);
+            if (elements == null)
                 throw new PickleibException("The " + highlighted(YELLOW, pageName) + " page object does not contain " + highlighted(YELLOW, elementListFieldName) + " element list!");
-            return (List<WebElement>) pageFields.get(elementListFieldName);
+            return (List<WebElement>) elements;
         }
 
         /**
@@ -937,8 +1120,7 @@ public class ElementAcquisition {
                 String pageName){
             List<Component> componentList = getComponentsFromPage(componentListName, pageName);
             Component component = acquireNamedComponentAmongst(componentList, selectionName);
-            Map<String, Object> componentFields = getFields(component);
-            return (WebElement) componentFields.get(elementFieldName);
+            return (WebElement) FieldAccessors.read(component, elementFieldName);
         }
 
         /**
@@ -957,8 +1139,7 @@ public class ElementAcquisition {
                 String pageName){
             List<Component> componentList = getComponentsFromPage(componentListName, pageName);
             Component component = acquireNamedComponentAmongst(componentList, selectionName);
-            Map<String, Object> componentFields = getFields(component);
-            return (List<WebElement>) componentFields.get(elementFieldName);
+            return (List<WebElement>) FieldAccessors.read(component, elementFieldName);
         }
 
         /**
@@ -976,8 +1157,7 @@ public class ElementAcquisition {
                 String pageName){
             List<Component> componentList = getComponentsFromPage(componentListName, pageName);
             Component component = acquireNamedComponentAmongst(componentList, selectionName);
-            Map<String, Object> componentFields = getFields(component);
-            return (WebElement) componentFields.get(elementFieldName);
+            return (WebElement) FieldAccessors.read(component, elementFieldName);
         }
 
         /**
@@ -996,8 +1176,7 @@ public class ElementAcquisition {
                 String pageName){
             List<Component> componentList = getComponentsFromPage(componentListName, pageName);
             Component component = acquireNamedComponentAmongst(componentList, selectionName);
-            Map<String, Object> componentFields = getFields(component);
-            return (List<WebElement>) componentFields.get(listFieldName);
+            return (List<WebElement>) FieldAccessors.read(component, listFieldName);
         }
 
         /**
@@ -1008,12 +1187,10 @@ public class ElementAcquisition {
          * @return returns map of fields
          */
         public Map<String, Object> getComponentFieldsFromPage(String componentName, String pageName){
-            Map<String, Object> pageFields;
             pageName = firstLetterDeCapped(pageName);
-            Object pageObject = getFields(getObjectRepository()).get(pageName);
-            if (pageObject != null) pageFields = getFields(pageObject);
-            else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-            if (pageFields.containsKey(componentName)) return getFields(pageFields.get(componentName));
+            Object pageObject = getPageObject(pageName);
+            if (FieldAccessors.has(pageObject, componentName))
+                return FieldAccessors.fields(FieldAccessors.read(pageObject, componentName));
             else throw new PickleibException(pageName + " does not contain " + componentName + " component!");
         }
 
@@ -1026,13 +1203,8 @@ public class ElementAcquisition {
          */
         @SuppressWarnings("unchecked")
         public <Component extends WebElement> List<Component> getComponentsFromPage(String componentListName, String pageName){
-            Map<String, Object> pageFields;
-            Map<String, Object> componentFields;
             pageName = firstLetterDeCapped(pageName);
-            Object pageObject = getFields(getObjectRepository()).get(pageName);
-            if (pageObject != null) pageFields = getFields(pageObject);
-            else throw new PickleibException("ObjectRepository does not contain an instance of " + pageName + " object!");
-            return (List<Component>) pageFields.get(componentListName);
+            return (List<Component>) FieldAccessors.read(getPageObject(pageName), componentListName);
         }
 
         /**
@@ -1042,7 +1214,7 @@ public class ElementAcquisition {
          * @return returns the map of fields
          */
         public Map<String, Object> getComponentFields(Object componentName){
-            return  getFields(componentName);
+            return FieldAccessors.fields(componentName);
         }
 
         /**
@@ -1128,18 +1300,16 @@ public class ElementAcquisition {
                 String targetElementFieldName
         ){
             log.info("Acquiring component called " + highlighted(BLUE, elementText));
-            boolean timeout = false;
-            long initialTime = System.currentTimeMillis();
-            while (!timeout){
+            Component match = new Poller(elementTimeout).until(() -> {
                 for (Component component : items) {
-                    Map<String, Object> componentFields = getFields(component);
-                    WebElement element = (WebElement) componentFields.get(targetElementFieldName);
+                    WebElement element = (WebElement) FieldAccessors.read(component, targetElementFieldName);
                     String text = element.getText();
                     String name = element.getAccessibleName();
                     if (text.equalsIgnoreCase(elementText) || name.equalsIgnoreCase(elementText)) return component;
                 }
-                if (System.currentTimeMillis() - initialTime > elementTimeout) timeout = true;
-            }
+                return null;
+            });
+            if (match != null) return match;
             throw new NoSuchElementException("No component with text/name '" + elementText + "' could be found!");
         }
     }
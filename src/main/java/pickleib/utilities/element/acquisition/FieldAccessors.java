@@ -0,0 +1,185 @@
+package pickleib.utilities.element.acquisition;
+
+import pickleib.exceptions.PickleibException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * Per-class table of field getters, keyed by field name.
+ * <p>
+ * The table of a class is built once (declared fields of the class and its superclasses, subclass fields first)
+ * and reused, so acquiring a field value is a hash probe plus a direct {@link MethodHandle} read
+ * instead of a reflective scan of every declared field. The superclass walk stops at JDK classes & proxy classes,
+ * fields that cannot be made accessible are skipped. {@link #values(Object)} only includes the fields declared
+ * by the class itself.
+ */
+public class FieldAccessors {
+
+    private static final ClassValue<FieldAccessors> tables = new ClassValue<>() {
+        @Override
+        protected FieldAccessors computeValue(Class<?> type) {
+            return new FieldAccessors(type);
+        }
+    };
+
+    private final Map<String, MethodHandle> getters;
+    private final Map<String, Class<?>> types;
+    private final Set<String> declaredFields;
+
+    private FieldAccessors(Class<?> type) {
+        Map<String, MethodHandle> getters = new LinkedHashMap<>();
+        Map<String, Class<?>> types = new HashMap<>();
+        Set<String> declaredFields = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null && !isPlatformClass(current); current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isSynthetic() || getters.containsKey(field.getName())) continue;
+                MethodHandle getter = getter(field);
+                if (getter == null) continue;
+                getters.put(field.getName(), getter);
+                types.put(field.getName(), field.getType());
+                if (current == type) declaredFields.add(field.getName());
+            }
+        }
+        this.getters = Collections.unmodifiableMap(getters);
+        this.types = Collections.unmodifiableMap(types);
+        this.declaredFields = Collections.unmodifiableSet(declaredFields);
+    }
+
+    /**
+     * Acquires the accessor table of a given class
+     *
+     * @param type target class
+     * @return returns the accessor table
+     */
+    public static FieldAccessors of(Class<?> type) {
+        return tables.get(type);
+    }
+
+    /**
+     * Reads a field of a given object
+     *
+     * @param instance  target object
+     * @param fieldName field name
+     * @return returns the field value, null if the object has no such field
+     */
+    public static Object read(Object instance, String fieldName) {
+        return of(instance.getClass()).get(instance, fieldName);
+    }
+
+    /**
+     * Checks if a given object has a field with a given name
+     *
+     * @param instance  target object
+     * @param fieldName field name
+     * @return returns true if the field exists
+     */
+    public static boolean has(Object instance, String fieldName) {
+        return of(instance.getClass()).contains(fieldName);
+    }
+
+    /**
+     * Acquires the values of the fields declared by the class of a given object
+     *
+     * @param instance target object
+     * @return returns a map of field names & values
+     */
+    public static Map<String, Object> fields(Object instance) {
+        return of(instance.getClass()).values(instance);
+    }
+
+    /**
+     * Reads a field of an object of the table's class
+     *
+     * @param instance  target object
+     * @param fieldName field name
+     * @return returns the field value, null if there is no such field
+     */
+    public Object get(Object instance, String fieldName) {
+        MethodHandle getter = getters.get(fieldName);
+        if (getter == null) return null;
+        try {
+            return (Object) getter.invokeExact(instance);
+        }
+        catch (Throwable throwable) {
+            throw new PickleibException("Could not read the " + fieldName + " field: " + throwable);
+        }
+    }
+
+    /**
+     * Checks if the table contains a field
+     *
+     * @param fieldName field name
+     * @return returns true if the field exists
+     */
+    public boolean contains(String fieldName) {
+        return getters.containsKey(fieldName);
+    }
+
+    /**
+     * Acquires the declared type of a field
+     *
+     * @param fieldName field name
+     * @return returns the field type, null if there is no such field
+     */
+    public Class<?> typeOf(String fieldName) {
+        return types.get(fieldName);
+    }
+
+    /**
+     * Acquires the values of the fields declared by the table's class, superclass fields are not included
+     *
+     * @param instance target object
+     * @return returns a map of field names & values
+     */
+    public Map<String, Object> values(Object instance) {
+        Map<String, Object> values = new HashMap<>();
+        for (String fieldName : declaredFields) values.put(fieldName, get(instance, fieldName));
+        return values;
+    }
+
+    /**
+     * Checks if a class belongs to the JDK or is a proxy class, their fields are not part of the tables
+     */
+    private static boolean isPlatformClass(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") ||
+                name.startsWith("sun.") || Proxy.isProxyClass(type);
+    }
+
+    /**
+     * Creates the getter of a field
+     *
+     * @return returns the getter, null if the field cannot be made accessible
+     */
+    private static MethodHandle getter(Field field) {
+        try {
+            MethodHandles.Lookup lookup;
+            try {
+                lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            }
+            catch (IllegalAccessException | SecurityException inaccessibleModule) {
+                try {
+                    field.setAccessible(true);
+                }
+                catch (InaccessibleObjectException | SecurityException inaccessibleField) {
+                    return null;
+                }
+                lookup = MethodHandles.lookup();
+            }
+            MethodHandle getter = lookup.unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers()))
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            return getter.asType(MethodType.methodType(Object.class, Object.class));
+        }
+        catch (IllegalAccessException exception) {
+            throw new PickleibException(exception);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package pickleib.utilities.element.acquisition;
+
+import com.google.common.collect.MapMaker;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByAll;
+import pickleib.enums.SelectorType;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Precompiled index of a Json object repository.
+ * <p>
+ * The repository is compiled once into a (page name, element name) map of locators,
+ * so acquiring the locators of an element is a hash lookup instead of a scan of the pages & elements arrays.
+ * Duplicate or missing page & element names are reported when the repository is compiled.
+ * Compiled indexes are cached by repository (see {@link #of(JsonObject)}), so repositories that are handed to
+ * a new PageObjectJson each scenario are only compiled once.
+ */
+public class JsonRepositoryIndex {
+
+    /**
+     * Precompiled locators of an element
+     *
+     * @param elementName element name
+     * @param pageName name of the page that includes the element
+     * @param locators element locators, mapped by their selector types
+     * @param byAllCache compound locators, mapped by the selector types they were built from
+     */
+    public record CompiledElement(
+            String elementName,
+            String pageName,
+            Map<SelectorType, By> locators,
+            Map<List<SelectorType>, ByAll> byAllCache
+    ) {
+
+        /**
+         * Acquires a compound locator of given selector types, selector types that the element does not define are skipped
+         *
+         * @param selectorTypes desired selector types
+         * @return returns the compound locator
+         */
+        public ByAll getByAll(SelectorType... selectorTypes) {
+            return byAllCache.computeIfAbsent(List.of(selectorTypes), types -> byAll(locators, selectorTypes));
+        }
+    }
+
+    private final Map<String, Map<String, CompiledElement>> pages;
+    private static final Printer log = new Printer(JsonRepositoryIndex.class);
+    private static final Map<JsonObject, JsonRepositoryIndex> indexes = new MapMaker().weakKeys().makeMap(); // Weak keys are compared by identity
+
+    private JsonRepositoryIndex(Map<String, Map<String, CompiledElement>> pages) {
+        this.pages = pages;
+    }
+
+    /**
+     * Acquires the compiled index of a Json object repository, the repository is compiled on first use.
+     * Repositories are matched by identity, so a lookup does not hash the repository tree,
+     * an index is dropped once its repository is garbage collected.
+     *
+     * @param objectRepository target object repository
+     * @return returns the compiled index
+     * @throws PickleibException if the repository includes duplicate or missing names
+     */
+    public static JsonRepositoryIndex of(JsonObject objectRepository) {
+        return indexes.computeIfAbsent(objectRepository, JsonRepositoryIndex::compile);
+    }
+
+    /**
+     * Compiles a Json object repository, all duplicate or missing page & element names are reported at once
+     *
+     * @param objectRepository target object repository
+     * @return returns the compiled index
+     * @throws PickleibException if the repository includes duplicate or missing names
+     */
+    public static JsonRepositoryIndex compile(JsonObject objectRepository) {
+        List<String> problems = new ArrayList<>();
+        Map<String, Map<String, CompiledElement>> pages = new HashMap<>();
+        JsonArray pageArray = objectRepository.getAsJsonArray("pages");
+        if (pageArray == null) throw new PickleibException("The object repository does not include a 'pages' array!");
+
+        for (int pageIndex = 0; pageIndex < pageArray.size(); pageIndex++) {
+            JsonObject pageJson = pageArray.get(pageIndex).getAsJsonObject();
+            String pageName = getString(pageJson, "name");
+            if (pageName == null) {
+                problems.add("Page #" + pageIndex + " does not have a name");
+                continue;
+            }
+            if (pages.containsKey(pageName)) {
+                problems.add("Page " + pageName + " is defined more than once");
+                continue;
+            }
+            Map<String, CompiledElement> elements = new HashMap<>();
+            pages.put(pageName, elements);
+
+            JsonArray elementArray = pageJson.getAsJsonArray("elements");
+            if (elementArray == null) {
+                problems.add("Page " + pageName + " does not include an 'elements' array");
+                continue;
+            }
+            for (int elementIndex = 0; elementIndex < elementArray.size(); elementIndex++) {
+                JsonObject elementJson = elementArray.get(elementIndex).getAsJsonObject();
+                String elementName = getString(elementJson, "elementName");
+                if (elementName == null)
+                    problems.add("Element #" + elementIndex + " of the " + pageName + " page does not have an elementName");
+                else if (elements.containsKey(elementName))
+                    problems.add("Element " + elementName + " is defined more than once in the " + pageName + " page");
+                else {
+                    Map<SelectorType, By> locators = compileLocators(elementJson);
+                    if (locators.isEmpty())
+                        log.warning("Element " + highlighted(BLUE, elementName) + highlighted(YELLOW, " of the ") +
+                                highlighted(BLUE, pageName) + highlighted(YELLOW, " page does not define any selectors!"));
+                    elements.put(
+                            elementName,
+                            new CompiledElement(elementName, pageName, locators, new ConcurrentHashMap<>())
+                    );
+                }
+            }
+        }
+        if (!problems.isEmpty())
+            throw new PickleibException("The object repository is invalid:\n\t" + String.join("\n\t", problems));
+        return new JsonRepositoryIndex(pages);
+    }
+
+    /**
+     * Acquires the precompiled locators of an element
+     *
+     * @param elementName target element name
+     * @param pageName name of the page that includes the element
+     * @return returns the compiled element
+     * @throws PickleibException if the page or the element is not defined
+     */
+    public CompiledElement getElement(String elementName, String pageName) {
+        Map<String, CompiledElement> elements = pages.get(pageName);
+        if (elements == null)
+            throw new PickleibException("The object repository does not contain the " + highlighted(YELLOW, pageName) + " page!");
+        CompiledElement element = elements.get(elementName);
+        if (element == null)
+            throw new PickleibException("The " + highlighted(YELLOW, pageName) + " page does not contain the " + highlighted(YELLOW, elementName) + " element!");
+        return element;
+    }
+
+    /**
+     * Checks if the index contains an element
+     *
+     * @param elementName target element name
+     * @param pageName name of the page that includes the element
+     * @return returns true if the element is defined
+     */
+    public boolean contains(String elementName, String pageName) {
+        Map<String, CompiledElement> elements = pages.get(pageName);
+        return elements != null && elements.containsKey(elementName);
+    }
+
+    /**
+     * Builds the locators of all selector types that an element Json defines
+     *
+     * @param elementJson element Json
+     * @return returns the locators, mapped by their selector types
+     */
+    public static Map<SelectorType, By> compileLocators(JsonObject elementJson) {
+        Map<SelectorType, By> locators = new EnumMap<>(SelectorType.class);
+        for (SelectorType selectorType : SelectorType.values()) {
+            String selector;
+            switch (selectorType) {
+                case css -> selector = getString(elementJson, "cssSelector");
+                default -> selector = getString(elementJson, selectorType.name());
+            }
+            if (selector == null) continue;
+            switch (selectorType) {
+                case id ->          locators.put(selectorType, By.id(selector));
+                case name ->        locators.put(selectorType, By.name(selector));
+                case tagName ->     locators.put(selectorType, By.tagName(selector));
+                case className ->   locators.put(selectorType, By.className(selector));
+                case css ->         locators.put(selectorType, By.cssSelector(selector));
+                case xpath ->       locators.put(selectorType, By.xpath(selector));
+                case text ->        locators.put(selectorType, By.xpath("//*[text()='" + selector + "']"));
+                default -> throw new EnumConstantNotPresentException(SelectorType.class, selectorType.name());
+            }
+        }
+        return Collections.unmodifiableMap(locators);
+    }
+
+    /**
+     * Combines the locators of given selector types, selector types without a locator are skipped
+     *
+     * @param locators element locators
+     * @param selectorTypes desired selector types
+     * @return returns the compound locator
+     */
+    public static ByAll byAll(Map<SelectorType, By> locators, SelectorType... selectorTypes) {
+        List<By> selected = new ArrayList<>();
+        for (SelectorType selectorType : selectorTypes)
+            if (locators.containsKey(selectorType)) selected.add(locators.get(selectorType));
+        return new ByAll(selected.toArray(new By[0]));
+    }
+
+    private static String getString(JsonObject json, String key) {
+        JsonElement value = json.get(key);
+        if (value == null || !value.isJsonPrimitive()) return null;
+        return value.getAsJsonPrimitive().getAsString();
+    }
+}
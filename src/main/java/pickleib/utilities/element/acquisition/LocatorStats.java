@@ -0,0 +1,277 @@
+package pickleib.utilities.element.acquisition;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import context.ContextStore;
+import pickleib.enums.SelectorType;
+import utils.Printer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Records which selector type resolved each (page, element) pair of a Json object repository.
+ * <p>
+ * The recorded outcomes are used to reorder the locators of later lookups, so a selector that keeps resolving
+ * is tried first and a stale one stops costing an implicit wait on every lookup.
+ * Stats can be loaded from & saved to a local file (see the 'locator-stats-path' property), so the learned order
+ * carries over between runs. Nothing is written unless a stats path is configured.
+ */
+@SuppressWarnings("unused")
+public class LocatorStats {
+
+    /**
+     * locators are reordered by their recorded outcomes if true
+     */
+    static boolean enabled = Boolean.parseBoolean(ContextStore.get("learned-locator-order", "true"));
+
+    /**
+     * determines the file the stats are persisted in, stats are not persisted if empty
+     */
+    static String statsPath = ContextStore.get("locator-stats-path", "");
+
+    /**
+     * Recorded outcomes of a selector type
+     */
+    public static class SelectorStats {
+        long hits;
+        long misses;
+        long totalMillis;
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Acquires the average duration of the lookups that used the selector
+         *
+         * @return returns the average duration in milliseconds
+         */
+        public long getAverageMillis() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : totalMillis / lookups;
+        }
+
+        /**
+         * Checks if the selector never resolved despite being tried
+         *
+         * @return returns true if the selector only missed
+         */
+        public boolean isDead() {
+            return hits == 0 && misses > 0;
+        }
+    }
+
+    /**
+     * Recorded outcomes of an element
+     */
+    public static class ElementStats {
+        SelectorType lastResolved;
+        Map<SelectorType, SelectorStats> selectors = new EnumMap<>(SelectorType.class);
+
+        public SelectorType getLastResolved() {
+            return lastResolved;
+        }
+
+        public Map<SelectorType, SelectorStats> getSelectors() {
+            return Collections.unmodifiableMap(selectors);
+        }
+    }
+
+    private static final Type statsType = new TypeToken<Map<String, ElementStats>>(){}.getType();
+    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final Map<String, ElementStats> stats = new ConcurrentHashMap<>();
+    private static final Printer log = new Printer(LocatorStats.class);
+    private static final AtomicBoolean persisting = new AtomicBoolean();
+
+    static {
+        persist();
+    }
+
+    /**
+     * Orders selector types by their recorded outcomes for an element.
+     * The last resolving selector comes first, followed by the selectors with more hits,
+     * selectors that only missed come last. Ties keep the requested order.
+     *
+     * @param pageName      name of the page that includes the element
+     * @param elementName   target element name
+     * @param selectorTypes requested selector types
+     * @return returns the ordered selector types
+     */
+    public static SelectorType[] order(String pageName, String elementName, SelectorType... selectorTypes) {
+        ElementStats element = enabled ? stats.get(key(pageName, elementName)) : null;
+        if (element == null) return selectorTypes;
+        synchronized (element) {
+            List<SelectorType> ordered = new ArrayList<>(List.of(selectorTypes));
+            ordered.sort(Comparator
+                    .comparing((SelectorType type) -> type != element.lastResolved)
+                    .thenComparing(type -> selectorStats(element, type).isDead())
+                    .thenComparing(type -> -selectorStats(element, type).hits)
+            );
+            return ordered.toArray(new SelectorType[0]);
+        }
+    }
+
+    /**
+     * Records the outcome of a single locator lookup
+     *
+     * @param pageName     name of the page that includes the element
+     * @param elementName  target element name
+     * @param selectorType selector type of the locator
+     * @param resolved     true if the locator resolved the element
+     * @param millis       duration of the lookup in milliseconds
+     */
+    public static void record(String pageName, String elementName, SelectorType selectorType, boolean resolved, long millis) {
+        ElementStats element = stats.computeIfAbsent(key(pageName, elementName), key -> new ElementStats());
+        synchronized (element) {
+            SelectorStats selector = element.selectors.computeIfAbsent(selectorType, type -> new SelectorStats());
+            if (resolved) {
+                selector.hits++;
+                element.lastResolved = selectorType;
+            }
+            else selector.misses++;
+            selector.totalMillis += millis;
+        }
+    }
+
+    /**
+     * Acquires the recorded outcomes of an element
+     *
+     * @param pageName    name of the page that includes the element
+     * @param elementName target element name
+     * @return returns the element stats, null if nothing is recorded
+     */
+    public static ElementStats getStats(String pageName, String elementName) {
+        return stats.get(key(pageName, elementName));
+    }
+
+    /**
+     * Acquires the recorded outcomes of all elements
+     *
+     * @return returns the element stats, keyed by 'page::element'
+     */
+    public static Map<String, ElementStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Generates a report of the recorded outcomes, dead & slow selectors are flagged
+     *
+     * @return returns the report
+     */
+    public static String report() {
+        StringBuilder report = new StringBuilder("Locator stats:");
+        for (String key : new TreeSet<>(stats.keySet())) {
+            ElementStats element = stats.get(key);
+            synchronized (element) {
+                report.append("\n\t").append(key);
+                element.selectors.forEach((type, selector) -> {
+                    report.append("\n\t\t")
+                            .append(type)
+                            .append(": ")
+                            .append(selector.hits)
+                            .append(" hit(s), ")
+                            .append(selector.misses)
+                            .append(" miss(es), ")
+                            .append(selector.getAverageMillis())
+                            .append(" ms average");
+                    if (selector.isDead()) report.append(" [dead]");
+                    else if (selector.misses > selector.hits) report.append(" [unreliable]");
+                });
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Forgets all recorded outcomes
+     */
+    public static void reset() {
+        stats.clear();
+    }
+
+    /**
+     * Saves the recorded outcomes to the stats file
+     */
+    public static void save() {
+        if (statsPath == null || statsPath.isBlank() || stats.isEmpty()) return;
+        try {
+            Path path = Paths.get(statsPath);
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            try (Writer writer = Files.newBufferedWriter(path)) {
+                gson.toJson(new TreeMap<>(stats), statsType, writer);
+            }
+        }
+        catch (IOException exception) {
+            log.warning("Locator stats could not be saved to " + statsPath + " (" + exception.getMessage() + ")");
+        }
+    }
+
+    /**
+     * Loads the stats file & saves the stats on shutdown, if a stats path is configured.
+     * The shutdown hook is only registered once.
+     */
+    private static void persist() {
+        if (statsPath == null || statsPath.isBlank()) return;
+        load();
+        if (persisting.compareAndSet(false, true))
+            Runtime.getRuntime().addShutdownHook(new Thread(LocatorStats::save));
+    }
+
+    private static void load() {
+        Path path = Paths.get(statsPath);
+        if (!Files.exists(path)) return;
+        try (Reader reader = Files.newBufferedReader(path)) {
+            Map<String, ElementStats> loaded = gson.fromJson(reader, statsType);
+            if (loaded == null) return;
+            loaded.values().removeIf(element -> element == null || element.selectors == null);
+            stats.putAll(loaded);
+            log.info("Loaded locator stats of " + highlighted(BLUE, String.valueOf(loaded.size())) + highlighted(GRAY, " element(s)"));
+        }
+        catch (IOException | JsonParseException exception) {
+            log.warning("Locator stats could not be loaded from " + statsPath + " (" + exception.getMessage() + ")");
+        }
+    }
+
+    private static SelectorStats selectorStats(ElementStats element, SelectorType selectorType) {
+        return element.selectors.getOrDefault(selectorType, new SelectorStats());
+    }
+
+    private static String key(String pageName, String elementName) {
+        return pageName + "::" + elementName;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        LocatorStats.enabled = enabled;
+    }
+
+    public static void setStatsPath(String statsPath) {
+        LocatorStats.statsPath = statsPath;
+        persist();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static String getStatsPath() {
+        return statsPath;
+    }
+}
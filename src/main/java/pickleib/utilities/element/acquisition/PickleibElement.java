@@ -0,0 +1,255 @@
+package pickleib.utilities.element.acquisition;
+
+import context.ContextStore;
+import org.openqa.selenium.*;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.RemoteWebElement;
+import utils.Printer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Element handle that retains how its element was acquired.
+ * <p>
+ * Calls are delegated to the located element, if a call fails with {@link StaleElementReferenceException}
+ * the element is located again & the call is retried once, so a re-rendered element costs a single extra lookup.
+ * A second staleness in a row is thrown to the caller as is.
+ * Handles extend {@link RemoteWebElement} & implement {@link WrapsElement}, so existing casts keep working and
+ * handles can be passed to scripts and Actions. Handles are opt-in through the 'locator-retaining-elements' property.
+ */
+@SuppressWarnings("unused")
+public class PickleibElement extends RemoteWebElement implements WrapsElement {
+
+    /**
+     * element acquisitions return locator retaining handles if true
+     */
+    static boolean retainLocators = Boolean.parseBoolean(ContextStore.get("locator-retaining-elements", "false"));
+
+    private static final Printer log = new Printer(PickleibElement.class);
+
+    private final WebDriver driver;
+    private final Supplier<WebElement> resolver;
+    private final String description;
+    private volatile WebElement element;
+
+    private PickleibElement(WebDriver driver, WebElement element, Supplier<WebElement> resolver, String description) {
+        this.driver = driver;
+        this.element = element;
+        this.resolver = resolver;
+        this.description = description;
+        if (driver instanceof RemoteWebDriver remoteDriver) setParent(remoteDriver);
+    }
+
+    /**
+     * Locates an element & wraps it in a locator retaining handle
+     *
+     * @param driver      driver the element belongs to
+     * @param resolver    locates the element, used for the initial & stale re-resolutions
+     * @param description element description used in logs (element & page names, locator)
+     * @return returns the element handle, the located element itself if the handles are disabled
+     */
+    public static WebElement of(WebDriver driver, Supplier<WebElement> resolver, String description) {
+        WebElement element = resolver.get();
+        if (!retainLocators) return element;
+        return new PickleibElement(driver, element, resolver, description);
+    }
+
+    /**
+     * Checks if an element is a locator retaining handle
+     *
+     * @param element target element
+     * @return returns true if the element is a handle
+     */
+    public static boolean isHandle(WebElement element) {
+        return element instanceof PickleibElement;
+    }
+
+    private <Result> Result call(Function<WebElement, Result> action) {
+        WebElement current = element;
+        try {
+            return action.apply(current);
+        }
+        catch (StaleElementReferenceException staleElement) {
+            log.info("Re-resolving stale element " + highlighted(BLUE, description));
+            synchronized (this) {
+                if (element == current) element = resolver.get();
+            }
+            return action.apply(element);
+        }
+    }
+
+    private void run(Consumer<WebElement> action) {
+        call(current -> {
+            action.accept(current);
+            return null;
+        });
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return element;
+    }
+
+    @Override
+    public WebDriver getWrappedDriver() {
+        return driver;
+    }
+
+    @Override
+    public String getId() {
+        return element instanceof RemoteWebElement remoteElement ? remoteElement.getId() : null;
+    }
+
+    @Override
+    public Map<String, Object> toJson() {
+        return ((RemoteWebElement) element).toJson();
+    }
+
+    @Override
+    public void click() {
+        run(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        run(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        run(current -> current.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        run(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(current -> current.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(current -> current.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(current -> current.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(current -> current.getCssValue(propertyName));
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return call(current -> current.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return call(current -> current.findElement(by));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return call(current -> ((Locatable) current).getCoordinates());
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> outputType) throws WebDriverException {
+        return call(current -> current.getScreenshotAs(outputType));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof WrapsElement wrapsElement) other = wrapsElement.getWrappedElement();
+        return element.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return element.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PickleibElement (" + description + ")";
+    }
+
+    public static void setRetainLocators(boolean retainLocators) {
+        PickleibElement.retainLocators = retainLocators;
+    }
+
+    public static boolean isRetainLocators() {
+        return retainLocators;
+    }
+}
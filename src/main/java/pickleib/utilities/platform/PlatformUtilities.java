@@ -2,13 +2,19 @@ package pickleib.utilities.platform;
 
 import io.appium.java_client.AppiumDriver;
 import org.openqa.selenium.Platform;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 import pickleib.driver.DriverFactory;
+import pickleib.utilities.element.acquisition.FieldAccessors;
 import java.lang.reflect.InvocationHandler;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import static pickleib.driver.DriverFactory.DriverType.*;
 import static pickleib.driver.DriverFactory.DriverType.getParentType;
@@ -16,8 +22,15 @@ import static utils.reflection.ReflectionUtilities.getField;
 
 public class PlatformUtilities {
 
+    /**
+     * Platforms of the driver sessions, resolved once per session
+     */
+    private static final Map<WebDriver, Platform> platforms = Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Determines the type of driver associated with the provided WebElement.
+     * The driver is resolved from the element (or the locator of a PageFactory proxy) without locating the element,
+     * and the platform is cached per driver session.
      *
      * @param element The WebElement whose driver type needs to be determined.
      * @return The DriverType associated with the WebElement:
@@ -25,17 +38,52 @@ public class PlatformUtilities {
      * - If the WebElement is associated with a standard WebDriver, returns DriverType.Web.
      */
     public static Platform getElementDriverPlatform(WebElement element) {
-        if (element instanceof java.lang.reflect.Proxy){
-            InvocationHandler proxyInvocationHandler = java.lang.reflect.Proxy.getInvocationHandler(element);
-            ElementLocator locator = (ElementLocator) getField("locator", proxyInvocationHandler);
-            RemoteWebElement remoteWebElement = (RemoteWebElement) (locator).findElement();
-            return ((RemoteWebDriver) remoteWebElement.getWrappedDriver()).getCapabilities().getPlatformName();
+        WebDriver driver = getElementDriver(element);
+        if (driver == null) {
+            if (element instanceof java.lang.reflect.Proxy) {
+                InvocationHandler proxyInvocationHandler = java.lang.reflect.Proxy.getInvocationHandler(element);
+                ElementLocator locator = (ElementLocator) getField("locator", proxyInvocationHandler);
+                driver = ((RemoteWebElement) locator.findElement()).getWrappedDriver();
+            }
+            else driver = ((RemoteWebElement) element).getWrappedDriver();
+        }
+        return getDriverPlatform(driver);
+    }
+
+    /**
+     * Acquires the platform of a driver session, the capabilities are only read once per session
+     *
+     * @param driver target driver
+     * @return returns the platform
+     */
+    public static Platform getDriverPlatform(WebDriver driver) {
+        return platforms.computeIfAbsent(driver, session -> ((RemoteWebDriver) session).getCapabilities().getPlatformName());
+    }
+
+    /**
+     * Resolves the driver of an element without locating it.
+     * PageFactory proxies are resolved through the search context of their locators.
+     *
+     * @param element target element
+     * @return returns the driver, null if it cannot be resolved without locating the element
+     */
+    private static WebDriver getElementDriver(SearchContext element) {
+        if (element instanceof WebDriver driver) return driver;
+        if (element instanceof java.lang.reflect.Proxy) {
+            if (element instanceof WrapsDriver wrapsDriver) return wrapsDriver.getWrappedDriver(); // Locator retaining handles
+            InvocationHandler handler = java.lang.reflect.Proxy.getInvocationHandler(element);
+            Object locator = FieldAccessors.read(handler, "locator");
+            if (locator == null) return null;
+            Object searchContext = FieldAccessors.read(locator, "searchContext");
+            return searchContext instanceof SearchContext context ? getElementDriver(context) : null;
         }
-        else {
-            RemoteWebElement remoteWebElement = ((RemoteWebElement) element);
-            RemoteWebDriver remoteWebDriver = ((RemoteWebDriver) remoteWebElement.getWrappedDriver());
-            return remoteWebDriver.getCapabilities().getPlatformName();
+        if (element instanceof RemoteWebElement) {
+            // Appium proxies extend RemoteWebElement without a parent, getWrappedDriver() would locate them
+            Object parent = FieldAccessors.read(element, "parent");
+            return parent instanceof WebDriver driver ? driver : null;
         }
+        if (element instanceof WrapsDriver wrapsDriver) return wrapsDriver.getWrappedDriver();
+        return null;
     }
 
     /**
@@ -82,7 +130,7 @@ public class PlatformUtilities {
      * @return The DriverType corresponding to the provided WebDriver.
      */
     public static DriverFactory.DriverType getDriverType(WebDriver driver) {
-        return getGeneralType(getParentType(((RemoteWebDriver) driver).getCapabilities().getPlatformName()));
+        return getGeneralType(getParentType(getDriverPlatform(driver)));
     }
 
     /**
@@ -92,7 +140,7 @@ public class PlatformUtilities {
      * @return The DriverType corresponding to the provided WebDriver.
      */
     public static DriverFactory.DriverType getDriverPlatformParentType(WebDriver driver) {
-        return getParentType(((RemoteWebDriver) driver).getCapabilities().getPlatformName());
+        return getParentType(getDriverPlatform(driver));
     }
 
     /**
@@ -0,0 +1,163 @@
+package pickleib.utilities.polling;
+
+import context.ContextStore;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.*;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.driver.SessionTimeouts;
+import pickleib.enums.ElementState;
+import utils.Printer;
+
+import java.time.Duration;
+
+/**
+ * Waits for element conditions inside the page.
+ * <p>
+ * The condition is shipped to the browser as an async script that re-evaluates it on every DOM mutation
+ * (MutationObserver) and animation frame (requestAnimationFrame), and reports the outcome of the whole wait
+ * in a single command. Drivers that cannot run scripts (Appium, native contexts) are not supported,
+ * callers are expected to fall back to JVM polling when a wait returns null.
+ */
+@SuppressWarnings("unused")
+public class BrowserWait {
+
+    /**
+     * in-browser waits are used when supported if true
+     */
+    static boolean enabled = Boolean.parseBoolean(ContextStore.get("in-browser-waits", "true"));
+
+    /**
+     * determines how much longer than the wait the script timeout is, in milliseconds
+     */
+    static long scriptTimeoutMargin = Long.parseLong(ContextStore.get("in-browser-wait-margin", "5000"));
+
+    private static final Printer log = new Printer(BrowserWait.class);
+
+    /**
+     * Evaluates arguments[1] condition on the arguments[0] element until it is met or arguments[4] ms pass,
+     * resolves with true if the condition was met
+     */
+    private static final String waitScript =
+            "var element = arguments[0], state = arguments[1], name = arguments[2], expected = arguments[3];" +
+            "var timeout = arguments[4], done = arguments[arguments.length - 1];" +
+            "function isDisplayed(e) {" +
+            "  if (!e.isConnected) return false;" +
+            "  if (typeof e.checkVisibility === 'function' && !e.checkVisibility({checkOpacity: true, checkVisibilityCSS: true})) return false;" +
+            "  var style = window.getComputedStyle(e);" +
+            "  if (style.visibility === 'hidden' || style.display === 'none') return false;" +
+            "  var rects = e.getClientRects();" +
+            "  for (var i = 0; i < rects.length; i++) if (rects[i].width > 0 && rects[i].height > 0) return true;" +
+            "  return false;" +
+            "}" +
+            "function attribute(e) {" +
+            "  var property = e[name];" +
+            "  if (typeof property === 'boolean') return property ? 'true' : null;" +
+            "  if (property != null && typeof property !== 'object' && typeof property !== 'function') return String(property);" +
+            "  return e.getAttribute(name);" +
+            "}" +
+            "function check() {" +
+            "  switch (state) {" +
+            "    case 'enabled': return element.isConnected && !element.matches(':disabled');" +
+            "    case 'disabled': return !element.isConnected || element.matches(':disabled');" +
+            "    case 'selected': return element.isConnected && !!(element.checked || element.selected);" +
+            "    case 'unselected': return !element.isConnected || !(element.checked || element.selected);" +
+            "    case 'displayed': return isDisplayed(element);" +
+            "    case 'absent': return !isDisplayed(element);" +
+            "    case 'attribute': return element.isConnected && attribute(element) === expected;" +
+            "  }" +
+            "  return false;" +
+            "}" +
+            "if (check()) { done(true); return; }" +
+            "var finished = false, observer, frame, timer;" +
+            "function finish(result) {" +
+            "  if (finished) return;" +
+            "  finished = true;" +
+            "  observer.disconnect(); cancelAnimationFrame(frame); clearTimeout(timer);" +
+            "  done(result);" +
+            "}" +
+            "observer = new MutationObserver(function () { if (check()) finish(true); });" +
+            "observer.observe(document, {attributes: true, childList: true, characterData: true, subtree: true});" +
+            "(function onFrame() { if (check()) finish(true); else if (!finished) frame = requestAnimationFrame(onFrame); })();" +
+            "timer = setTimeout(function () { finish(check()); }, timeout);";
+
+    /**
+     * Waits until an element is in a given state
+     *
+     * @param driver  target driver
+     * @param element target element
+     * @param state   expected state
+     * @param timeout timeout in milliseconds
+     * @return returns true if the state is reached, false if the wait times out, null if the wait is not supported
+     */
+    public static Boolean waitForState(RemoteWebDriver driver, WebElement element, ElementState state, long timeout) {
+        boolean metIfMissing = switch (state) {
+            case absent, disabled, unselected -> true;
+            default -> false;
+        };
+        return waitFor(driver, element, state.name(), null, null, timeout, metIfMissing);
+    }
+
+    /**
+     * Waits until an attribute of an element equals a given value
+     *
+     * @param driver         target driver
+     * @param element        target element
+     * @param attributeName  target attribute name
+     * @param attributeValue expected attribute value
+     * @param timeout        timeout in milliseconds
+     * @return returns true if the attribute matches, false if the wait times out, null if the wait is not supported
+     */
+    public static Boolean waitForAttribute(RemoteWebDriver driver, WebElement element, String attributeName, String attributeValue, long timeout) {
+        return waitFor(driver, element, "attribute", attributeName, attributeValue, timeout, false);
+    }
+
+    /**
+     * Checks if in-browser waits can be used with a given driver
+     *
+     * @param driver target driver
+     * @return returns true if the driver supports async scripts
+     */
+    public static boolean isSupported(WebDriver driver) {
+        return enabled && driver instanceof JavascriptExecutor && !(driver instanceof AppiumDriver);
+    }
+
+    private static Boolean waitFor(
+            RemoteWebDriver driver,
+            WebElement element,
+            String state,
+            String attributeName,
+            String attributeValue,
+            long timeout,
+            boolean metIfMissing
+    ) {
+        if (!isSupported(driver)) return null;
+        try {
+            SessionTimeouts.scriptTimeout(driver, Duration.ofMillis(timeout + scriptTimeoutMargin));
+            Object result = driver.executeAsyncScript(waitScript, element, state, attributeName, attributeValue, timeout);
+            return Boolean.TRUE.equals(result);
+        }
+        catch (NoSuchElementException | StaleElementReferenceException missingElement) {
+            return metIfMissing ? true : null;
+        }
+        catch (WebDriverException exception) {
+            log.warning("In-browser wait is not available, polling instead (" + exception.getClass().getSimpleName() + ")");
+            return null;
+        }
+    }
+
+    public static void setEnabled(boolean enabled) {
+        BrowserWait.enabled = enabled;
+    }
+
+    public static void setScriptTimeoutMargin(long scriptTimeoutMargin) {
+        BrowserWait.scriptTimeoutMargin = scriptTimeoutMargin;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static long getScriptTimeoutMargin() {
+        return scriptTimeoutMargin;
+    }
+}
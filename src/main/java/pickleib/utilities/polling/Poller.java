@@ -0,0 +1,221 @@
+package pickleib.utilities.polling;
+
+import context.ContextStore;
+import org.openqa.selenium.WebDriverException;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.util.function.Supplier;
+
+import static utils.StringUtilities.Color.GRAY;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Repeats a condition until it yields a result or the timeout expires, sleeping between attempts as the
+ * {@link PollingPolicy} determines. {@link WebDriverException}s thrown by the condition are logged once per
+ * exception type and retried.
+ */
+@SuppressWarnings("unused")
+public class Poller {
+
+    /**
+     * determines the default policy; fixed, exponential or immediate-then-backoff
+     */
+    static String policyType = ContextStore.get("polling-policy", "immediate-then-backoff");
+
+    /**
+     * determines the (initial) polling interval in milliseconds
+     */
+    static long interval = Long.parseLong(ContextStore.get("polling-interval", "100"));
+
+    /**
+     * determines the upper limit of the polling interval in milliseconds
+     */
+    static long maxInterval = Long.parseLong(ContextStore.get("polling-max-interval", "1000"));
+
+    /**
+     * determines the growth factor of the polling interval
+     */
+    static double multiplier = Double.parseDouble(ContextStore.get("polling-multiplier", "2"));
+
+    /**
+     * determines the randomization ratio of the polling interval
+     */
+    static double jitter = Double.parseDouble(ContextStore.get("polling-jitter", "0.2"));
+
+    /**
+     * determines how many attempts are retried without delay by the immediate-then-backoff policy
+     */
+    static int immediateAttempts = Integer.parseInt(ContextStore.get("polling-immediate-attempts", "1"));
+
+    private final long timeout;
+    private PollingPolicy policy = defaultPolicy();
+    private WebDriverException lastException;
+    private int failureCount;
+    private int attemptCount;
+    private final Printer log = new Printer(Poller.class);
+
+    /**
+     * Creates a poller with the default policy
+     *
+     * @param timeout timeout in milliseconds
+     */
+    public Poller(long timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Sets the polling policy
+     *
+     * @param policy polling policy
+     * @return returns the poller
+     */
+    public Poller withPolicy(PollingPolicy policy) {
+        this.policy = policy;
+        return this;
+    }
+
+    /**
+     * Polls a condition until it returns a value other than null or false.
+     * The condition is attempted at least once, even if the timeout is 0.
+     *
+     * @param condition polled condition
+     * @return returns the result of the condition, null if the timeout expires
+     * @param <Result> result type
+     */
+    public <Result> Result until(Supplier<Result> condition) {
+        long initialTime = System.currentTimeMillis();
+        int attempt = 0;
+        while (true) {
+            attemptCount++;
+            try {
+                Result result = condition.get();
+                if (result != null && !Boolean.FALSE.equals(result)) return result;
+            }
+            catch (WebDriverException webDriverException) {
+                if (lastException == null || !webDriverException.getClass().equals(lastException.getClass()))
+                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
+                lastException = webDriverException;
+                failureCount++;
+            }
+            long remaining = timeout - (System.currentTimeMillis() - initialTime);
+            if (remaining <= 0) break;
+            sleep(Math.min(policy.delay(attempt++), remaining));
+        }
+        if (failureCount > 0) log.warning("Iterated " + failureCount + " time(s)!");
+        return null;
+    }
+
+    /**
+     * Polls a condition until it returns true
+     *
+     * @param condition polled condition
+     * @return returns true if the condition is met before the timeout expires
+     */
+    public boolean isMet(Supplier<Boolean> condition) {
+        return Boolean.TRUE.equals(until(condition));
+    }
+
+    /**
+     * Acquires the last exception thrown by the condition
+     *
+     * @return returns the exception, null if the condition never threw
+     */
+    public WebDriverException getLastException() {
+        return lastException;
+    }
+
+    /**
+     * Acquires the number of attempts that threw an exception
+     *
+     * @return returns the failure count
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Acquires the number of attempts made so far
+     *
+     * @return returns the attempt count
+     */
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    /**
+     * Builds the policy configured by the polling properties
+     *
+     * @return returns the default policy
+     */
+    public static PollingPolicy defaultPolicy() {
+        return switch (policyType) {
+            case "fixed" -> PollingPolicy.fixed(interval);
+            case "exponential" -> PollingPolicy.exponential(interval, maxInterval, multiplier, jitter);
+            case "immediate-then-backoff" -> PollingPolicy.immediateThenBackoff(
+                    immediateAttempts,
+                    PollingPolicy.exponential(interval, maxInterval, multiplier, jitter)
+            );
+            default -> throw new PickleibException("Unknown polling policy: " + highlighted(GRAY, policyType));
+        };
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new PickleibException(highlighted(GRAY, exception.getLocalizedMessage()));
+        }
+    }
+
+    public static void setPolicyType(String policyType) {
+        Poller.policyType = policyType;
+    }
+
+    public static void setInterval(long interval) {
+        Poller.interval = interval;
+    }
+
+    public static void setMaxInterval(long maxInterval) {
+        Poller.maxInterval = maxInterval;
+    }
+
+    public static void setMultiplier(double multiplier) {
+        Poller.multiplier = multiplier;
+    }
+
+    public static void setJitter(double jitter) {
+        Poller.jitter = jitter;
+    }
+
+    public static void setImmediateAttempts(int immediateAttempts) {
+        Poller.immediateAttempts = immediateAttempts;
+    }
+
+    public static String getPolicyType() {
+        return policyType;
+    }
+
+    public static long getInterval() {
+        return interval;
+    }
+
+    public static long getMaxInterval() {
+        return maxInterval;
+    }
+
+    public static double getMultiplier() {
+        return multiplier;
+    }
+
+    public static double getJitter() {
+        return jitter;
+    }
+
+    public static int getImmediateAttempts() {
+        return immediateAttempts;
+    }
+}
@@ -0,0 +1,57 @@
+package pickleib.utilities.polling;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Determines how long a {@link Poller} sleeps between two attempts
+ */
+@FunctionalInterface
+public interface PollingPolicy {
+
+    /**
+     * Calculates the delay after a failed attempt
+     *
+     * @param attempt index of the failed attempt, starting from 0
+     * @return returns the delay in milliseconds
+     */
+    long delay(int attempt);
+
+    /**
+     * Polls in fixed intervals
+     *
+     * @param interval delay between attempts in milliseconds
+     * @return returns the policy
+     */
+    static PollingPolicy fixed(long interval) {
+        return attempt -> interval;
+    }
+
+    /**
+     * Polls with exponentially growing intervals, each delay is randomized within the given jitter ratio
+     * so that sessions sharing a grid do not poll in lockstep
+     *
+     * @param initialInterval delay after the first attempt in milliseconds
+     * @param maxInterval     upper limit of the delay in milliseconds
+     * @param multiplier      growth factor of the delay
+     * @param jitter          randomization ratio of the delay (0 to 1)
+     * @return returns the policy
+     */
+    static PollingPolicy exponential(long initialInterval, long maxInterval, double multiplier, double jitter) {
+        return attempt -> {
+            double delay = Math.min(maxInterval, initialInterval * Math.pow(multiplier, attempt));
+            if (jitter > 0) delay *= 1 + jitter * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+            return Math.max(0, Math.round(delay));
+        };
+    }
+
+    /**
+     * Retries immediately for a given number of attempts, then delegates to a backoff policy
+     *
+     * @param immediateAttempts number of attempts retried without delay
+     * @param backoff           policy of the later attempts
+     * @return returns the policy
+     */
+    static PollingPolicy immediateThenBackoff(int immediateAttempts, PollingPolicy backoff) {
+        return attempt -> attempt < immediateAttempts ? 0 : backoff.delay(attempt - immediateAttempts);
+    }
+}
@@ -1,39 +1,97 @@
 package pickleib.utilities.screenshot;
 
-import org.apache.commons.io.FileUtils;
+import context.ContextStore;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.remote.RemoteWebDriver;
-import utils.NumericUtilities;
 import utils.Printer;
-import utils.StringUtilities;
 
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static utils.StringUtilities.Color.*;
 import static utils.StringUtilities.highlighted;
 
+/**
+ * Captures screenshots as bytes & writes them to the screenshots directory, either right away or on a bounded
+ * background writer (see {@link #captureScreenAsync(String, String, RemoteWebDriver)} & "async-screenshots").
+ * <p>
+ * When the writer queue is full the capturing thread writes the screenshot itself (back-pressure),
+ * pending writes are flushed before the JVM exits.
+ */
 @SuppressWarnings("unused")
 public class ScreenCaptureUtility {
     static Printer log = new Printer(ScreenCaptureUtility.class);
 
+    /**
+     * captureScreen writes screenshots on the background writer if true, the returned files might not be written yet
+     */
+    static boolean asyncWrites = Boolean.parseBoolean(ContextStore.get("async-screenshots", "false"));
+
+    /**
+     * determines the directory screenshots are saved in
+     */
+    static String directory = ContextStore.get("screenshot-directory", "screenshots");
+
+    /**
+     * determines the quality of JPEG screenshots, between 0 and 1
+     */
+    static float jpegQuality = Float.parseFloat(ContextStore.get("screenshot-jpeg-quality", "0.85"));
+
+    /**
+     * determines how many screenshots can wait to be written before the capturing thread writes them itself
+     */
+    static int queueSize = Integer.parseInt(ContextStore.get("screenshot-queue-size", "16"));
+
+    /**
+     * determines the number of background writer threads
+     */
+    static int writerThreads = Integer.parseInt(ContextStore.get("screenshot-writer-threads", "1"));
+
+    private static final DateTimeFormatter timestampFormat = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final long pid = ProcessHandle.current().pid(); // Forked JVMs may share the screenshot directory
+    private static final AtomicLong counter = new AtomicLong();
+    private static final AtomicInteger pendingWrites = new AtomicInteger();
+    private static final Object flushMonitor = new Object();
+    private static volatile ThreadPoolExecutor writer;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ScreenCaptureUtility::shutdown));
+    }
+
     /**
      * Captures screen
      * @param name screenshot name
+     * @param extension screenshot file extension (png, jpg or jpeg)
      * @param driver session driver
-     * @return returns the screenshot file
+     * @return returns the screenshot file, the file might not be written yet if "async-screenshots" is enabled (see {@link #flush()})
      */
     public static File captureScreen(String name, String extension, RemoteWebDriver driver) {
         try {
             log.info("Capturing page...");
             if (!extension.contains(".")) extension = "." + extension;
-            name += "#"+ NumericUtilities.randomNumber(1,10000) + extension;
-            File sourceFile = new File("screenshots");
-            File fileDestination  = ((TakesScreenshot)driver).getScreenshotAs(OutputType.FILE);
-            FileUtils.copyFile(fileDestination, new File(sourceFile, name));
-
-            log.info("Screenshot saved as; "+name+" at the \"screenshots\" file.");
-            return fileDestination;
+            File file = new File(directory, fileName(name, extension));
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            if (asyncWrites) submit(screenshot, file);
+            else {
+                write(screenshot, file);
+                logSaved(file);
+            }
+            return file;
         }
         catch (Exception exception){
             log.error("Could not capture screen", exception);
@@ -41,4 +99,183 @@ public class ScreenCaptureUtility {
             return null;
         }
     }
+
+    /**
+     * Captures screen & writes it on the background writer
+     * @param name screenshot name
+     * @param extension screenshot file extension (png, jpg or jpeg)
+     * @param driver session driver
+     * @return returns a future that completes with the screenshot file once it is written
+     */
+    public static CompletableFuture<File> captureScreenAsync(String name, String extension, RemoteWebDriver driver) {
+        try {
+            log.info("Capturing page...");
+            if (!extension.contains(".")) extension = "." + extension;
+            File file = new File(directory, fileName(name, extension));
+            return submit(((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES), file);
+        }
+        catch (Exception exception){
+            log.error("Could not capture screen", exception);
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    /**
+     * Waits until all pending screenshots are written
+     */
+    public static void flush() {
+        synchronized (flushMonitor) {
+            while (pendingWrites.get() > 0)
+                try {
+                    flushMonitor.wait(1000);
+                }
+                catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+        }
+    }
+
+    /**
+     * Acquires the number of screenshots waiting to be written
+     *
+     * @return returns the pending write count
+     */
+    public static int getPendingWrites() {
+        return pendingWrites.get();
+    }
+
+    static String fileName(String name, String extension) {
+        return name + "#" + LocalDateTime.now().format(timestampFormat) + "-" + pid + "-" + counter.incrementAndGet() + extension;
+    }
+
+    static CompletableFuture<File> submit(byte[] screenshot, File file) {
+        CompletableFuture<File> future = new CompletableFuture<>();
+        // Counted before submission, so a write that runs on the caller (back-pressure) cannot drop the counter below 0
+        pendingWrites.incrementAndGet();
+        try {
+            writer().execute(() -> {
+                try {
+                    write(screenshot, file);
+                    logSaved(file);
+                    future.complete(file);
+                }
+                catch (IOException | RuntimeException exception) {
+                    log.error("Could not save screenshot " + file.getName(), exception);
+                    future.completeExceptionally(exception);
+                }
+                finally {
+                    writeFinished();
+                }
+            });
+        }
+        catch (RejectedExecutionException exception) {
+            log.warning("Screenshot " + file.getName() + " could not be queued, the writer is shut down");
+            writeFinished();
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    private static void writeFinished() {
+        if (pendingWrites.decrementAndGet() == 0)
+            synchronized (flushMonitor) {
+                flushMonitor.notifyAll();
+            }
+    }
+
+    static void write(byte[] screenshot, File file) throws IOException {
+        String format = file.getName().substring(file.getName().lastIndexOf('.') + 1).toLowerCase();
+        if (file.getParentFile() != null) Files.createDirectories(file.getParentFile().toPath());
+        if (format.equals("jpg") || format.equals("jpeg")) writeJpeg(screenshot, file);
+        else Files.write(file.toPath(), screenshot); // Drivers capture PNG
+    }
+
+    private static void logSaved(File file) {
+        log.info("Screenshot saved as; " + highlighted(BLUE, file.getName()) + highlighted(GRAY, " at the \"" + directory + "\" file."));
+    }
+
+    private static void writeJpeg(byte[] screenshot, File file) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(screenshot));
+        if (image == null) throw new IOException("Screenshot bytes of " + file.getName() + " could not be decoded!");
+        BufferedImage rgbImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        rgbImage.createGraphics().drawImage(image, 0, 0, java.awt.Color.WHITE, null);
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) throw new IOException("No JPEG writer is available!");
+        ImageWriter jpegWriter = writers.next();
+        ImageWriteParam parameters = jpegWriter.getDefaultWriteParam();
+        parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        parameters.setCompressionQuality(jpegQuality);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(file)) {
+            jpegWriter.setOutput(output);
+            jpegWriter.write(null, new IIOImage(rgbImage, null, null), parameters);
+        }
+        finally {
+            jpegWriter.dispose();
+        }
+    }
+
+    private static ThreadPoolExecutor writer() {
+        if (writer == null)
+            synchronized (ScreenCaptureUtility.class) {
+                if (writer == null) {
+                    AtomicInteger threadCount = new AtomicInteger();
+                    writer = new ThreadPoolExecutor(
+                            writerThreads,
+                            writerThreads,
+                            0L,
+                            TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(queueSize),
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "screenshot-writer-" + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            },
+                            (task, executor) -> { // Back-pressure, rejects instead of discarding once shut down
+                                if (executor.isShutdown())
+                                    throw new RejectedExecutionException("Screenshot writer is shut down");
+                                task.run();
+                            }
+                    );
+                }
+            }
+        return writer;
+    }
+
+    private static void shutdown() {
+        if (writer == null) return;
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS))
+                log.warning(pendingWrites.get() + " screenshot(s) could not be written before shutdown!");
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void setAsyncWrites(boolean asyncWrites) {
+        ScreenCaptureUtility.asyncWrites = asyncWrites;
+    }
+
+    public static void setDirectory(String directory) {
+        ScreenCaptureUtility.directory = directory;
+    }
+
+    public static void setJpegQuality(float jpegQuality) {
+        ScreenCaptureUtility.jpegQuality = jpegQuality;
+    }
+
+    public static boolean isAsyncWrites() {
+        return asyncWrites;
+    }
+
+    public static String getDirectory() {
+        return directory;
+    }
+
+    public static float getJpegQuality() {
+        return jpegQuality;
+    }
 }
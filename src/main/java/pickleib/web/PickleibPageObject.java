@@ -3,7 +3,6 @@ package pickleib.web;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
-import pickleib.web.driver.PickleibWebDriver;
 import pickleib.web.utilities.WebUtilities;
 
 public abstract class PickleibPageObject extends WebUtilities {
@@ -12,7 +11,7 @@ public abstract class PickleibPageObject extends WebUtilities {
      *
      */
     protected PickleibPageObject(){
-        super(PickleibWebDriver.get());
+        super();
         PageFactory.initElements(driver, this);
     }
 
@@ -30,7 +29,7 @@ public abstract class PickleibPageObject extends WebUtilities {
      *
      */
     protected <CustomFieldDecorator extends DefaultFieldDecorator> PickleibPageObject(CustomFieldDecorator fieldDecorator){
-        super(PickleibWebDriver.get());
+        super();
         PageFactory.initElements(fieldDecorator, this);
     }
 
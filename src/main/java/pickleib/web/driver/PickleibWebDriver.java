@@ -10,6 +10,8 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import pickleib.utilities.PropertyLoader;
+import pickleib.utilities.element.acquisition.ElementAcquisition;
+import pickleib.web.utilities.PageLoadMonitor;
 import properties.PropertiesReader;
 import utils.Printer;
 import utils.StringUtilities;
@@ -25,17 +27,21 @@ public class PickleibWebDriver {
 	static {PropertyLoader.load();}
 
 	/**
-	 * RemoteWebDriver instance
+	 * Acquires the driver of the session bound to the current thread
+	 *
+	 * @return returns the session driver
 	 */
-	private static RemoteWebDriver driver;
+	public static RemoteWebDriver get(){
+		return SessionRegistry.driver();
+	}
 
 	/**
-	 * WebDriverWait instance
+	 * Acquires the wait of the session bound to the current thread
+	 *
+	 * @return returns the session wait
 	 */
-	private static FluentWait<RemoteWebDriver> wait;
-
-	public static RemoteWebDriver get(){
-		return driver;
+	public static FluentWait<RemoteWebDriver> getWait(){
+		return SessionRegistry.waiter();
 	}
 
 	static PropertiesReader reader = new PropertiesReader("properties-from-pom.properties");
@@ -47,19 +53,53 @@ public class PickleibWebDriver {
 	 * @param browserType driver type
 	 */
 	public static void initialize(WebDriverFactory.BrowserType browserType){
+		initialize(browserType, SessionRegistry.defaultKey());
+	}
+
+	/**
+	 * Initializes a specified type of driver, registers it under a given session key
+	 * and binds it to the current thread.
+	 * The driver is borrowed from the {@link WebDriverPool} if the pool is enabled.
+	 *
+	 * @param browserType driver type
+	 * @param sessionKey session key (ex: scenario name)
+	 */
+	public static void initialize(WebDriverFactory.BrowserType browserType, String sessionKey){
 		log.info("Initializing " + markup(StringUtilities.Color.PURPLE, browserType.getDriverName()) + " driver...");
-		driver = WebDriverFactory.getDriver(browserType);
+		RemoteWebDriver driver;
+		if (WebDriverPool.isEnabled()) driver = WebDriverPool.borrow(browserType);
+		else driver = WebDriverFactory.getDriver(browserType);
+		SessionRegistry.register(sessionKey, driver);
 	}
 
 	/**
 	 * Initializes a driver according to the browser property
 	 */
 	public static void initialize(){
+		initializeSession(SessionRegistry.defaultKey());
+	}
+
+	/**
+	 * Initializes a driver according to the browser property, registers it under a given session key
+	 * and binds it to the current thread
+	 *
+	 * @param sessionKey session key (ex: scenario name)
+	 */
+	public static void initializeSession(String sessionKey){
 		String driverName = firstLetterCapped(reader.getProperty("browser"));
 		String driverProperty = firstLetterCapped(ContextStore.get("browser"));
-		if (driverName!=null) initialize(WebDriverFactory.BrowserType.fromString(driverName));
-		else if (driverProperty != null) initialize(WebDriverFactory.BrowserType.fromString(driverProperty));
-		else initialize(WebDriverFactory.BrowserType.CHROME);
+		if (driverName!=null) initialize(WebDriverFactory.BrowserType.fromString(driverName), sessionKey);
+		else if (driverProperty != null) initialize(WebDriverFactory.BrowserType.fromString(driverProperty), sessionKey);
+		else initialize(WebDriverFactory.BrowserType.CHROME, sessionKey);
+	}
+
+	/**
+	 * Binds the current thread to a session that was registered under a given key
+	 *
+	 * @param sessionKey session key
+	 */
+	public static void attach(String sessionKey){
+		SessionRegistry.bind(sessionKey);
 	}
 
 	/**
@@ -68,7 +108,7 @@ public class PickleibWebDriver {
 	@Deprecated(since = "1.5.6")
 	public static void initialize(String id, String password, WebDriverFactory.BrowserType browserType){ //Only works with chrome!
 		initialize(browserType);
-		DevTools dev = ((ChromeDriver) driver).getDevTools();
+		DevTools dev = ((ChromeDriver) get()).getDevTools();
 		dev.createSession();
 		dev.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
 		Map<String, Object> map = new HashMap<>();
@@ -77,10 +117,30 @@ public class PickleibWebDriver {
 	}
 
 	/**
-	 * Quits the driver session
+	 * Quits the driver session bound to the current thread,
+	 * pooled sessions are reset and returned to the {@link WebDriverPool} instead
 	 */
 	public static void terminate(){
 		log.info("Terminating driver...");
-		driver.quit();
+		end(SessionRegistry.unregister());
+	}
+
+	/**
+	 * Quits the driver session registered under a given key,
+	 * pooled sessions are reset and returned to the {@link WebDriverPool} instead
+	 *
+	 * @param sessionKey session key
+	 */
+	public static void terminate(String sessionKey){
+		log.info("Terminating driver...");
+		end(SessionRegistry.unregister(sessionKey));
+	}
+
+	private static void end(SessionRegistry.Session session){
+		if (session == null) return;
+		ElementAcquisition.Reflections.invalidate(session.driver());
+		PageLoadMonitor.detach(session.driver());
+		if (WebDriverPool.isPooled(session.driver())) WebDriverPool.release(session.driver());
+		else session.driver().quit();
 	}
 }
\ No newline at end of file
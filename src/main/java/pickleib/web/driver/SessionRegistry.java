@@ -0,0 +1,177 @@
+package pickleib.web.driver;
+
+import context.ContextStore;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static utils.StringUtilities.Color.BLUE;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Keeps track of the driver sessions running in the JVM.
+ * <p>
+ * Each session is registered under a key (a scenario name, a worker id, etc.) and is bound to the thread that
+ * registered it. Threads can re-bind to another registered session via {@link #bind(String)}, which allows
+ * running multiple browsers within a single JVM. Acquiring the current session from a thread that is not bound
+ * to one fails, instead of silently handing out a session that belongs to another thread.
+ */
+@SuppressWarnings("unused")
+public class SessionRegistry {
+
+    /**
+     * Driver session along with its wait
+     *
+     * @param key        session key
+     * @param driver     session driver
+     * @param fluentWait session wait
+     */
+    public record Session(String key, RemoteWebDriver driver, FluentWait<RemoteWebDriver> fluentWait) {}
+
+    /**
+     * Registered sessions, mapped by their keys
+     */
+    private static final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Session bound to the current thread
+     */
+    private static final ThreadLocal<Session> boundSession = new ThreadLocal<>();
+
+    /**
+     * Default session key of the current thread, keys are never reused by later threads
+     */
+    private static final AtomicLong threadCount = new AtomicLong();
+    private static final ThreadLocal<String> threadKey = ThreadLocal.withInitial(() -> "thread-" + threadCount.incrementAndGet());
+
+    private static final Printer log = new Printer(SessionRegistry.class);
+
+    /**
+     * Generates the default session key for the current thread
+     *
+     * @return returns the session key
+     */
+    public static String defaultKey() {
+        return threadKey.get();
+    }
+
+    /**
+     * Registers a driver under a given key and binds it to the current thread
+     *
+     * @param key    session key
+     * @param driver session driver
+     * @return returns the registered session
+     */
+    public static Session register(String key, RemoteWebDriver driver) {
+        long elementTimeout = Long.parseLong(ContextStore.get("element-timeout", "15000"));
+        FluentWait<RemoteWebDriver> wait = new FluentWait<>(driver)
+                .withTimeout(Duration.ofMillis(elementTimeout))
+                .pollingEvery(Duration.ofMillis(500))
+                .withMessage("Waiting for element visibility...")
+                .ignoring(WebDriverException.class);
+        Session session = new Session(key, driver, wait);
+        Session previous = sessions.put(key, session);
+        if (previous != null && previous.driver() != driver)
+            log.warning("Session " + highlighted(BLUE, key) + " was overridden by a new driver!");
+        boundSession.set(session);
+        return session;
+    }
+
+    /**
+     * Binds the current thread to a registered session
+     *
+     * @param key session key
+     * @return returns the bound session
+     */
+    public static Session bind(String key) {
+        Session session = sessions.get(key);
+        if (session == null) throw new PickleibException("No driver session is registered as " + highlighted(BLUE, key));
+        boundSession.set(session);
+        return session;
+    }
+
+    /**
+     * Releases the session bound to the current thread, the session stays registered
+     */
+    public static void unbind() {
+        boundSession.remove();
+    }
+
+    /**
+     * Acquires the session bound to the current thread
+     *
+     * @return returns the current session, null if no session is registered
+     * @throws PickleibException if sessions are registered but none of them is bound to the current thread
+     */
+    public static Session current() {
+        Session session = boundSession.get();
+        if (session != null && sessions.get(session.key()) == session) return session;
+        else if (session != null) boundSession.remove();
+        if (sessions.isEmpty()) return null;
+        throw new PickleibException(
+                "No driver session is bound to the current thread, bind one of " + sessions.keySet() + " first!"
+        );
+    }
+
+    /**
+     * Acquires the driver of the current session
+     *
+     * @return returns the driver, null if there is no session
+     */
+    public static RemoteWebDriver driver() {
+        Session session = current();
+        return session != null ? session.driver() : null;
+    }
+
+    /**
+     * Acquires the wait of the current session
+     *
+     * @return returns the wait, null if there is no session
+     */
+    public static FluentWait<RemoteWebDriver> waiter() {
+        Session session = current();
+        return session != null ? session.fluentWait() : null;
+    }
+
+    /**
+     * Removes the current session from the registry
+     *
+     * @return returns the removed session, null if there is none
+     */
+    public static Session unregister() {
+        Session session = current();
+        if (session != null) sessions.remove(session.key(), session);
+        boundSession.remove();
+        return session;
+    }
+
+    /**
+     * Removes a session from the registry
+     *
+     * @param key session key
+     * @return returns the removed session, null if there is none
+     */
+    public static Session unregister(String key) {
+        Session session = sessions.remove(key);
+        if (session != null && boundSession.get() == session) boundSession.remove();
+        return session;
+    }
+
+    /**
+     * Lists all registered sessions
+     *
+     * @return returns the registered sessions
+     */
+    public static List<Session> sessions() {
+        return new ArrayList<>(sessions.values());
+    }
+}
@@ -11,13 +11,13 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
 import pickleib.driver.DriverFactory;
+import pickleib.driver.SessionTimeouts;
 import pickleib.enums.EmulatedDevice;
 import pickleib.exceptions.PickleibException;
 import utils.LogUtilities;
 import utils.Printer;
 import java.io.IOException;
 import java.net.URL;
-import java.time.Duration;
 
 import static utils.StringUtilities.Color.*;
 import static utils.StringUtilities.highlighted;
@@ -144,7 +144,7 @@ public class WebDriverFactory implements DriverFactory {
             else {driver = driverSwitch(headless, useWDM, insecureLocalHost, noSandbox, disableNotifications, allowRemoteOrigin, loadStrategy, browserType, mobileMode, preferredDevice);}
 
             assert driver != null;
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(driverTimeout));
+            SessionTimeouts.restoreImplicitWait(driver);
             if (deleteCookies) driver.manage().deleteAllCookies();
             if (maximise) driver.manage().window().maximize();
             else driver.manage().window().setSize(new Dimension(frameWidth, frameHeight));
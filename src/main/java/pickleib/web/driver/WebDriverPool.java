@@ -0,0 +1,348 @@
+package pickleib.web.driver;
+
+import context.ContextStore;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.driver.SessionTimeouts;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Pool of pre-launched browser sessions with borrow/release semantics.
+ * <p>
+ * Released sessions are reset (cookies & site data of every visited origin, windows, timeouts) and parked
+ * on a blank tab instead of being quit, so the next borrower skips the browser & driver start-up.
+ * Chromium sessions are reset through DevTools, other sessions through WebDriver (see {@link #reset(RemoteWebDriver)}),
+ * sessions that cannot be reset are quit on release.
+ * Sessions are recycled after a configured number of uses or when they fail the health check.
+ */
+@SuppressWarnings("unused")
+public class WebDriverPool {
+
+    /**
+     * determines the maximum number of sessions per browser type, the pool is disabled if 0
+     */
+    static int poolSize = Integer.parseInt(ContextStore.get("driver-pool-size", "0"));
+
+    /**
+     * determines how many times a session is borrowed before it gets recycled
+     */
+    static int maxUses = Integer.parseInt(ContextStore.get("driver-pool-max-uses", "25"));
+
+    /**
+     * determines how long a borrower waits for a session when the pool is exhausted
+     */
+    static long borrowTimeout = Long.parseLong(ContextStore.get("driver-pool-borrow-timeout", "120000"));
+
+    /**
+     * Pooled driver along with its usage count
+     */
+    private static class PooledSession {
+        final RemoteWebDriver driver;
+        final WebDriverFactory.BrowserType browserType;
+        int uses;
+
+        PooledSession(RemoteWebDriver driver, WebDriverFactory.BrowserType browserType) {
+            this.driver = driver;
+            this.browserType = browserType;
+        }
+    }
+
+    private static final Map<WebDriverFactory.BrowserType, BlockingDeque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+    private static final Map<WebDriverFactory.BrowserType, AtomicInteger> sessionCounts = new ConcurrentHashMap<>();
+    private static final Map<RemoteWebDriver, PooledSession> borrowedSessions = new ConcurrentHashMap<>();
+    private static final Printer log = new Printer(WebDriverPool.class);
+
+    /**
+     * Clears the localStorage & sessionStorage of the current document, documents without storage access are skipped
+     */
+    private static final String clearStorageScript =
+            "try { window.localStorage.clear(); } catch (e) {}" +
+            "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(WebDriverPool::shutdown));
+    }
+
+    /**
+     * Checks if the pool is enabled
+     *
+     * @return returns true if the pool size is greater than 0
+     */
+    public static boolean isEnabled() {
+        return poolSize > 0;
+    }
+
+    /**
+     * Launches sessions of a given browser type until the pool is full
+     *
+     * @param browserType driver type
+     */
+    public static void warmUp(WebDriverFactory.BrowserType browserType) {
+        log.info("Warming up " + highlighted(BLUE, String.valueOf(poolSize)) + highlighted(GRAY, " ") +
+                highlighted(PURPLE, browserType.getDriverName()) + highlighted(GRAY, " session(s)..."));
+        ExecutorService launcher = Executors.newFixedThreadPool(Math.max(poolSize, 1));
+        List<Future<?>> launches = new ArrayList<>();
+        while (reserveSlot(browserType))
+            launches.add(launcher.submit(() -> idle(browserType).offer(launch(browserType))));
+        try {
+            for (Future<?> launch : launches) launch.get();
+        }
+        catch (InterruptedException | ExecutionException exception) {
+            throw new PickleibException(exception);
+        }
+        finally {launcher.shutdown();}
+    }
+
+    /**
+     * Borrows a healthy session of a given browser type, launches a new one if the pool is not full yet.
+     * Blocks until a session is released if the pool is exhausted.
+     *
+     * @param browserType driver type
+     * @return returns the borrowed driver
+     */
+    public static RemoteWebDriver borrow(WebDriverFactory.BrowserType browserType) {
+        long initialTime = System.currentTimeMillis();
+        do {
+            PooledSession session = idle(browserType).pollFirst();
+            if (session == null && reserveSlot(browserType)) session = launch(browserType);
+            else if (session == null) {
+                try {
+                    session = idle(browserType).pollFirst(borrowTimeout, TimeUnit.MILLISECONDS);
+                }
+                catch (InterruptedException exception) {throw new PickleibException(exception);}
+            }
+
+            if (session != null && isHealthy(session)) {
+                session.uses++;
+                borrowedSessions.put(session.driver, session);
+                return session.driver;
+            }
+            else if (session != null) recycle(session);
+        }
+        while (System.currentTimeMillis() - initialTime < borrowTimeout);
+        throw new PickleibException("No " + browserType.getDriverName() + " session could be borrowed from the pool!");
+    }
+
+    /**
+     * Checks if a driver was borrowed from the pool
+     *
+     * @param driver target driver
+     * @return returns true if the driver belongs to the pool
+     */
+    public static boolean isPooled(RemoteWebDriver driver) {
+        return driver != null && borrowedSessions.containsKey(driver);
+    }
+
+    /**
+     * Resets a borrowed session and returns it to the pool,
+     * the session is quit instead if it reached the use limit or could not be reset
+     *
+     * @param driver borrowed driver
+     */
+    public static void release(RemoteWebDriver driver) {
+        PooledSession session = borrowedSessions.remove(driver);
+        if (session == null) throw new PickleibException("The driver was not borrowed from the pool!");
+        if (session.uses >= maxUses) {
+            log.info("Recycling the session after " + session.uses + " use(s)");
+            recycle(session);
+        }
+        else if (reset(session.driver)) idle(session.browserType).offerFirst(session);
+        else recycle(session);
+    }
+
+    /**
+     * Clears the state of a session & restores the default timeouts.
+     * <p>
+     * Chromium sessions: collects the origins in the navigation history & frame tree of each window and the origins
+     * of all cookies, replaces all windows with a single blank tab, clears the site data (storage, IndexedDB, caches,
+     * service workers) of each origin & deletes all cookies.
+     * <p>
+     * Other sessions: deletes the cookies & clears the localStorage and sessionStorage of the origin open in each window,
+     * then replaces all windows with a single blank tab. WebDriver cannot reach origins that are no longer open
+     * in a window, their cookies & storage are kept.
+     *
+     * @param driver target driver
+     * @return returns true if the session was reset, false if it could not be reset
+     */
+    public static boolean reset(RemoteWebDriver driver) {
+        if (!(driver instanceof ChromiumDriver chromiumDriver)) return resetByWebDriver(driver);
+        try {
+            Set<String> origins = new LinkedHashSet<>();
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (String handle : handles) {
+                driver.switchTo().window(handle);
+                origins.addAll(visitedOrigins(chromiumDriver));
+            }
+            // Session storage belongs to a tab, so the session continues in a fresh tab
+            String blankHandle = driver.switchTo().newWindow(WindowType.TAB).getWindowHandle();
+            for (String handle : handles) driver.switchTo().window(handle).close();
+            driver.switchTo().window(blankHandle);
+
+            origins.addAll(cookieOrigins(chromiumDriver));
+            for (String origin : origins)
+                chromiumDriver.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+            chromiumDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+
+            SessionTimeouts.reset(driver);
+            return true;
+        }
+        catch (WebDriverException exception) {
+            log.warning("Session could not be reset: " + exception.getClass().getSimpleName());
+            return false;
+        }
+    }
+
+    /**
+     * Clears the cookies & web storage of the origin open in each window, replaces all windows with a single blank tab
+     * & restores the default timeouts
+     */
+    private static boolean resetByWebDriver(RemoteWebDriver driver) {
+        try {
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (String handle : handles) {
+                driver.switchTo().window(handle);
+                Set<String> origins = new LinkedHashSet<>();
+                addOrigin(origins, driver.getCurrentUrl());
+                if (origins.isEmpty()) continue; // Blank & non-http documents have no cookies to delete
+                driver.manage().deleteAllCookies();
+                driver.executeScript(clearStorageScript);
+            }
+            String blankHandle = driver.switchTo().newWindow(WindowType.TAB).getWindowHandle();
+            for (String handle : handles) driver.switchTo().window(handle).close();
+            driver.switchTo().window(blankHandle);
+
+            SessionTimeouts.reset(driver);
+            return true;
+        }
+        catch (WebDriverException exception) {
+            log.warning("Session could not be reset, quitting the session: " + exception.getClass().getSimpleName());
+            return false;
+        }
+    }
+
+    /**
+     * Quits all pooled sessions
+     */
+    public static void shutdown() {
+        List<PooledSession> sessions = new ArrayList<>(borrowedSessions.values());
+        borrowedSessions.clear();
+        for (BlockingDeque<PooledSession> idle : idleSessions.values()) idle.drainTo(sessions);
+        for (PooledSession session : sessions) recycle(session);
+    }
+
+    /**
+     * Acquires the origins in the navigation history & the frame tree of the current window
+     */
+    private static Set<String> visitedOrigins(ChromiumDriver driver) {
+        Set<String> origins = new LinkedHashSet<>();
+        Map<String, Object> history = driver.executeCdpCommand("Page.getNavigationHistory", Map.of());
+        for (Object entry : (List<?>) history.get("entries")) addOrigin(origins, ((Map<?, ?>) entry).get("url"));
+        Deque<Object> frames = new ArrayDeque<>(List.of(driver.executeCdpCommand("Page.getFrameTree", Map.of()).get("frameTree")));
+        while (!frames.isEmpty()) {
+            Map<?, ?> frameTree = (Map<?, ?>) frames.pop();
+            addOrigin(origins, ((Map<?, ?>) frameTree.get("frame")).get("url"));
+            if (frameTree.get("childFrames") instanceof List<?> childFrames) frames.addAll(childFrames);
+        }
+        return origins;
+    }
+
+    /**
+     * Acquires the http & https origins of all cookie domains
+     */
+    private static Set<String> cookieOrigins(ChromiumDriver driver) {
+        Set<String> origins = new LinkedHashSet<>();
+        for (Object cookie : (List<?>) driver.executeCdpCommand("Network.getAllCookies", Map.of()).get("cookies")) {
+            String domain = String.valueOf(((Map<?, ?>) cookie).get("domain")).replaceFirst("^\\.", "");
+            origins.add("https://" + domain);
+            origins.add("http://" + domain);
+        }
+        return origins;
+    }
+
+    private static void addOrigin(Set<String> origins, Object url) {
+        if (url == null) return;
+        try {
+            URI uri = new URI(url.toString());
+            if (uri.getHost() == null || !(uri.getScheme().equals("http") || uri.getScheme().equals("https"))) return;
+            origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : ""));
+        }
+        catch (URISyntaxException ignored) {}
+    }
+
+    private static boolean isHealthy(PooledSession session) {
+        try {
+            return session.driver.getSessionId() != null && session.driver.getWindowHandle() != null;
+        }
+        catch (WebDriverException exception) {
+            log.warning("Pooled session failed the health check: " + exception.getClass().getSimpleName());
+            return false;
+        }
+    }
+
+    private static void recycle(PooledSession session) {
+        sessionCounts.get(session.browserType).decrementAndGet();
+        try {session.driver.quit();}
+        catch (WebDriverException ignored) {}
+    }
+
+    private static PooledSession launch(WebDriverFactory.BrowserType browserType) {
+        try {
+            return new PooledSession(WebDriverFactory.getDriver(browserType), browserType);
+        }
+        catch (RuntimeException exception) {
+            sessionCounts.get(browserType).decrementAndGet();
+            throw exception;
+        }
+    }
+
+    private static boolean reserveSlot(WebDriverFactory.BrowserType browserType) {
+        AtomicInteger count = sessionCounts.computeIfAbsent(browserType, type -> new AtomicInteger());
+        int current;
+        do {
+            current = count.get();
+            if (current >= poolSize) return false;
+        }
+        while (!count.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private static BlockingDeque<PooledSession> idle(WebDriverFactory.BrowserType browserType) {
+        return idleSessions.computeIfAbsent(browserType, type -> new LinkedBlockingDeque<>());
+    }
+
+    public static void setPoolSize(int poolSize) {
+        WebDriverPool.poolSize = poolSize;
+    }
+
+    public static void setMaxUses(int maxUses) {
+        WebDriverPool.maxUses = maxUses;
+    }
+
+    public static void setBorrowTimeout(long borrowTimeout) {
+        WebDriverPool.borrowTimeout = borrowTimeout;
+    }
+
+    public static int getPoolSize() {
+        return poolSize;
+    }
+
+    public static int getMaxUses() {
+        return maxUses;
+    }
+
+    public static long getBorrowTimeout() {
+        return borrowTimeout;
+    }
+}
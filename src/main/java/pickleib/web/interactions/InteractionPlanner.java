@@ -0,0 +1,354 @@
+package pickleib.web.interactions;
+
+import collections.Bundle;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.enums.ClearStrategy;
+import pickleib.enums.InteractionType;
+import pickleib.exceptions.PickleibException;
+import pickleib.utilities.polling.Poller;
+import pickleib.web.utilities.ElementGeometry;
+import utils.Printer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static pickleib.utilities.platform.PlatformUtilities.getDriverPlatform;
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.contextCheck;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Plans bundle interactions as a whole before executing them.
+ * <ul>
+ *     <li>Consecutive fill steps and the click that follows them are merged into W3C Actions performs. A click ends
+ *     its segment, since it may navigate or reveal elements. Each perform covers the leading steps that are ready
+ *     for interaction, steps that are not ready yet (ex: enabled by an earlier fill) are checked again after it.
+ *     Inputs are cleared by the configured {@link ClearStrategy}, text fills are verified by a single read-back
+ *     and re-filled with keystrokes if they do not hold the expected value</li>
+ *     <li>Consecutive verify steps are folded into a single attribute read, mismatches are re-verified with polling</li>
+ *     <li>Center steps are skipped if the element is already in view</li>
+ * </ul>
+ * A plan can be inspected (dry-run) before execution, its report compares the planned command count with
+ * the command count of executing each bundle as its own interaction. Command counts are estimates.
+ */
+@SuppressWarnings("unused")
+public class InteractionPlanner {
+
+    /**
+     * Returns a flag for each arguments[0] element, true if the element is displayed & enabled
+     */
+    private static final String readinessScript =
+            "return Array.prototype.map.call(arguments[0], function (element) {" +
+            "  return element.isConnected && !element.matches(':disabled') && element.getClientRects().length > 0;" +
+            "});";
+
+    /**
+     * Returns the value of each arguments[0] element & whether it holds free text (text inputs, textareas & content editables)
+     */
+    private static final String fieldsScript =
+            "var textTypes = ['text', 'search', 'email', 'url', 'tel', 'password', 'number'];" +
+            "return Array.prototype.map.call(arguments[0], function (element) {" +
+            "  var tag = element.tagName.toLowerCase();" +
+            "  return {" +
+            "    value: element.isContentEditable ? element.textContent : element.value," +
+            "    text: element.isContentEditable || tag === 'textarea' || (tag === 'input' && textTypes.indexOf(element.type) >= 0)" +
+            "  };" +
+            "});";
+
+    /**
+     * Empties the arguments[0] elements through the native value setter & dispatches input and change events
+     */
+    private static final String nativeClearScript =
+            "Array.prototype.forEach.call(arguments[0], function (element) {" +
+            "  if (element.isContentEditable) { element.textContent = ''; }" +
+            "  else {" +
+            "    var prototype = element instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype :" +
+            "        element instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+            "    var descriptor = Object.getOwnPropertyDescriptor(prototype, 'value');" +
+            "    if (descriptor && descriptor.set) descriptor.set.call(element, ''); else element.value = '';" +
+            "  }" +
+            "  element.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  element.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "});";
+
+    /**
+     * Returns the arguments[1] attribute values (property first, then attribute) of arguments[0] elements
+     */
+    private static final String readAttributesScript =
+            "var elements = arguments[0], names = arguments[1];" +
+            "return Array.prototype.map.call(elements, function (element, index) {" +
+            "  var name = names[index], property = element[name];" +
+            "  if (typeof property === 'boolean') return property ? 'true' : null;" +
+            "  if (property != null && typeof property !== 'object' && typeof property !== 'function') return String(property);" +
+            "  return element.getAttribute(name);" +
+            "});";
+
+    /**
+     * Estimated commands of executing a step as its own interaction
+     */
+    private static final Map<InteractionType, Integer> naiveCommands = Map.of(
+            InteractionType.click, 4,   // clickability wait (2), scroll, click
+            InteractionType.fill, 6,    // visibility wait, scroll, clear (2), send keys, read-back
+            InteractionType.center, 1,  // scroll script
+            InteractionType.verify, 2   // timeout, attribute wait
+    );
+
+    private final WebInteractions interactions;
+    private final RemoteWebDriver driver;
+    private final Printer log = new Printer(InteractionPlanner.class);
+
+    public InteractionPlanner(WebInteractions interactions) {
+        this.interactions = interactions;
+        this.driver = interactions.driver;
+    }
+
+    /**
+     * Single bundle interaction
+     *
+     * @param type interaction type
+     * @param elementName target element name
+     * @param element target element
+     * @param specifications interaction specifications (input, attribute name & value)
+     */
+    public record Step(InteractionType type, String elementName, WebElement element, Map<String, String> specifications) {}
+
+    /**
+     * Group of steps executed together
+     *
+     * @param type interaction type of the group (click & fill steps are grouped as click)
+     * @param steps grouped steps
+     */
+    public record Segment(InteractionType type, List<Step> steps) {
+
+        /**
+         * Estimates the commands of executing the segment
+         *
+         * @return returns the command count
+         */
+        public int plannedCommands() {
+            return switch (type) {
+                case click, fill -> steps.stream().anyMatch(step -> step.type() == InteractionType.fill) ?
+                        3 : // readiness check, actions perform, fill read-back (more if some steps are not ready yet)
+                        2;
+                case center -> steps.size();
+                case verify -> 1;
+            };
+        }
+
+        /**
+         * Estimates the commands of executing each step of the segment as its own interaction
+         *
+         * @return returns the command count
+         */
+        public int naiveCommands() {
+            return steps.stream().mapToInt(step -> naiveCommands.get(step.type())).sum();
+        }
+    }
+
+    /**
+     * Planned bundle interactions
+     */
+    public class Plan {
+        private final List<Segment> segments;
+        private final String pageName;
+        private final boolean scroll;
+
+        private Plan(List<Segment> segments, String pageName, boolean scroll) {
+            this.segments = segments;
+            this.pageName = pageName;
+            this.scroll = scroll;
+        }
+
+        public List<Segment> getSegments() {
+            return segments;
+        }
+
+        /**
+         * Estimates the commands of executing the plan
+         *
+         * @return returns the command count
+         */
+        public int getPlannedCommandCount() {
+            return segments.stream().mapToInt(Segment::plannedCommands).sum();
+        }
+
+        /**
+         * Estimates the commands of executing each bundle as its own interaction
+         *
+         * @return returns the command count
+         */
+        public int getNaiveCommandCount() {
+            return segments.stream().mapToInt(Segment::naiveCommands).sum();
+        }
+
+        /**
+         * Generates a report of the planned segments & command counts
+         *
+         * @return returns the report
+         */
+        public String report() {
+            StringBuilder report = new StringBuilder("Interaction plan for " + pageName + ":");
+            for (Segment segment : segments)
+                report.append("\n\t")
+                        .append(segment.type())
+                        .append(" x")
+                        .append(segment.steps().size())
+                        .append(": ")
+                        .append(segment.steps().stream().map(Step::elementName).toList())
+                        .append(" (")
+                        .append(segment.plannedCommands())
+                        .append(" planned / ")
+                        .append(segment.naiveCommands())
+                        .append(" naive commands)");
+            report.append("\n\tTotal: ")
+                    .append(getPlannedCommandCount())
+                    .append(" planned / ")
+                    .append(getNaiveCommandCount())
+                    .append(" naive commands");
+            return report.toString();
+        }
+
+        /**
+         * Executes the plan
+         */
+        public void execute() {
+            log.info("Executing " +
+                    highlighted(BLUE, String.valueOf(segments.size())) +
+                    highlighted(GRAY, " planned segment(s) on ") +
+                    highlighted(BLUE, pageName)
+            );
+            for (Segment segment : segments)
+                switch (segment.type()) {
+                    case click, fill -> performActions(segment, scroll);
+                    case center -> center(segment, pageName);
+                    case verify -> verify(segment, pageName);
+                }
+        }
+    }
+
+    /**
+     * Plans a list of bundle interactions
+     *
+     * @param bundles list of bundles, where each bundle contains the element name, the element and the interaction specifications
+     * @param pageName specified page instance name
+     * @param scroll scrolls to the elements before clicking & filling if true
+     * @return returns the plan
+     * @throws EnumConstantNotPresentException If an unsupported interaction type is encountered in the bundle.
+     */
+    public Plan plan(List<Bundle<String, WebElement, Map<String, String>>> bundles, String pageName, boolean scroll) {
+        List<Segment> segments = new ArrayList<>();
+        for (Bundle<String, WebElement, Map<String, String>> bundle : bundles) {
+            InteractionType type = InteractionType.valueOf(bundle.theta().get("Interaction Type"));
+            Step step = new Step(type, bundle.alpha(), bundle.beta(), bundle.theta());
+            InteractionType segmentType = type == InteractionType.fill ? InteractionType.click : type;
+            Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            boolean closed = last == null ||
+                    last.type() == InteractionType.center ||
+                    last.steps().get(last.steps().size() - 1).type() == InteractionType.click;
+            if (!closed && last.type() == segmentType) last.steps().add(step);
+            else segments.add(new Segment(segmentType, new ArrayList<>(List.of(step))));
+        }
+        return new Plan(segments, pageName, scroll);
+    }
+
+    private void performActions(Segment segment, boolean scroll) {
+        List<Step> remaining = segment.steps();
+        while (!remaining.isEmpty()) {
+            List<WebElement> elements = remaining.stream().map(Step::element).toList();
+            int[] readySteps = {0};
+            boolean ready = new Poller(interactions.elementTimeout).isMet(() -> {
+                List<?> readiness = (List<?>) driver.executeScript(readinessScript, elements);
+                int firstUnready = readiness.indexOf(Boolean.FALSE);
+                readySteps[0] = firstUnready < 0 ? readiness.size() : firstUnready;
+                return readySteps[0] > 0;
+            });
+            if (!ready) throw new PickleibException(
+                    "Element " + remaining.get(0).elementName() + " is not ready for interaction!"
+            );
+            perform(remaining.subList(0, readySteps[0]), scroll);
+            remaining = remaining.subList(readySteps[0], remaining.size());
+        }
+    }
+
+    private void perform(List<Step> steps, boolean scroll) {
+        ClearStrategy clearStrategy = interactions.clearStrategy;
+        List<Step> fills = steps.stream().filter(step -> step.type() == InteractionType.fill).toList();
+        List<WebElement> fillElements = fills.stream().map(Step::element).toList();
+        List<String> inputs = fills.stream().map(step -> contextCheck(step.specifications().get("Input"))).toList();
+        List<?> initialFields = null;
+        if (!fills.isEmpty())
+            switch (clearStrategy) {
+                case backspace -> initialFields = (List<?>) driver.executeScript(fieldsScript, fillElements);
+                case nativeSetter -> driver.executeScript(nativeClearScript, fillElements);
+            }
+
+        Platform platform = getDriverPlatform(driver);
+        Keys modifier = platform != null && platform.is(Platform.MAC) ? Keys.COMMAND : Keys.CONTROL;
+        Actions actions = new Actions(driver);
+        for (Step step : steps) {
+            if (scroll) actions.scrollToElement(step.element());
+            actions.click(step.element());
+            if (step.type() != InteractionType.fill) continue;
+            int fillIndex = fills.indexOf(step);
+            switch (clearStrategy) {
+                case backspace -> {
+                    Object value = ((Map<?, ?>) initialFields.get(fillIndex)).get("value");
+                    int length = value != null ? String.valueOf(value).length() : 0;
+                    for (int i = 0; i <= length; i++) actions.sendKeys(Keys.BACK_SPACE);
+                }
+                case selectAllDelete -> actions.keyDown(modifier).sendKeys("a").keyUp(modifier).sendKeys(Keys.DELETE);
+            }
+            actions.sendKeys(inputs.get(fillIndex));
+        }
+        actions.perform();
+        log.success("Performed " + steps.stream().map(step -> step.type() + " " + step.elementName()).toList());
+
+        if (fills.isEmpty()) return;
+        List<?> fields = (List<?>) driver.executeScript(fieldsScript, fillElements);
+        for (int index = 0; index < fills.size(); index++) {
+            Map<?, ?> field = (Map<?, ?>) fields.get(index);
+            if (!Boolean.TRUE.equals(field.get("text")) || Objects.equals(field.get("value"), inputs.get(index))) continue;
+            log.warning(fills.get(index).elementName() + " does not hold the expected value, filling it with keystrokes");
+            interactions.fillInputElement(fillElements.get(index), inputs.get(index), false, clearStrategy, true);
+        }
+    }
+
+    private void center(Segment segment, String pageName) {
+        for (Step step : segment.steps()) {
+            if (ElementGeometry.scrollToCenterIfNeeded(driver, step.element())) {
+                log.info("Centered " + highlighted(BLUE, step.elementName()) + highlighted(GRAY, " on ") + highlighted(BLUE, pageName));
+            }
+            else log.info(highlighted(BLUE, step.elementName()) + highlighted(GRAY, " is already in view"));
+        }
+    }
+
+    private void verify(Segment segment, String pageName) {
+        List<WebElement> elements = new ArrayList<>();
+        List<String> attributeNames = new ArrayList<>();
+        List<String> expectedValues = new ArrayList<>();
+        for (Step step : segment.steps()) {
+            elements.add(step.element());
+            attributeNames.add(step.specifications().get("Attribute Name"));
+            expectedValues.add(contextCheck(step.specifications().get("Attribute Value")));
+        }
+        List<?> values = (List<?>) driver.executeScript(readAttributesScript, elements, attributeNames);
+        for (int index = 0; index < elements.size(); index++) {
+            Step step = segment.steps().get(index);
+            if (Objects.equals(values.get(index), expectedValues.get(index)))
+                log.success("The " + attributeNames.get(index) + " attribute of element " + step.elementName() + " is verified!");
+            else interactions.verifyElementContainsAttribute(
+                    step.element(),
+                    step.elementName(),
+                    pageName,
+                    attributeNames.get(index),
+                    expectedValues.get(index)
+            );
+        }
+    }
+}
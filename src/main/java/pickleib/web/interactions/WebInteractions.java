@@ -15,11 +15,14 @@ import pickleib.exceptions.PickleibException;
 import pickleib.exceptions.PickleibVerificationException;
 import pickleib.utilities.element.acquisition.ElementAcquisition;
 import pickleib.utilities.interfaces.PolymorphicUtilities;
-import pickleib.web.driver.PickleibWebDriver;
+import pickleib.web.utilities.DomSnapshot;
+import pickleib.web.utilities.SessionState;
+import pickleib.web.utilities.SessionStateCache;
 import pickleib.web.utilities.WebUtilities;
 
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,13 +34,18 @@ import static utils.StringUtilities.highlighted;
 @SuppressWarnings("unused")
 public class WebInteractions extends WebUtilities implements PolymorphicUtilities {
 
+    /**
+     * bundle interactions are planned & executed in batches if true
+     */
+    public boolean planBundleInteractions = Boolean.parseBoolean(ContextStore.get("plan-bundle-interactions", "false"));
+
     public WebInteractions(RemoteWebDriver driver, FluentWait<RemoteWebDriver> wait) {
         super(driver);
         this.wait = wait;
     }
 
     public WebInteractions() {
-        super(PickleibWebDriver.get());
+        super();
     }
 
     /**
@@ -79,6 +87,67 @@ public class WebInteractions extends WebUtilities implements PolymorphicUtilitie
         super.deleteAllCookies();
     }
 
+    /**
+     * Captures the cookies, local & session storage (and optionally IndexedDB) of the current origin
+     *
+     * @param includeIndexedDb captures the IndexedDB databases of the origin if true
+     * @return returns the session state snapshot
+     */
+    public SessionState captureSessionState(boolean includeIndexedDb) {
+        log.info("Capturing session state ... ");
+        return SessionState.capture(driver, includeIndexedDb);
+    }
+
+    /**
+     * Restores a session state snapshot into the current session & reloads the page
+     *
+     * @param state session state snapshot
+     */
+    public void restoreSessionState(SessionState state) {
+        log.info("Restoring session state of " + highlighted(BLUE, state.getOrigin()));
+        state.restore(driver, true);
+    }
+
+    /**
+     * Captures the session state of the current origin & caches it for a given user or role
+     *
+     * @param role             user or role the session belongs to
+     * @param includeIndexedDb captures the IndexedDB databases of the origin if true
+     */
+    public void saveSessionState(String role, boolean includeIndexedDb) {
+        SessionStateCache.store(role, captureSessionState(includeIndexedDb));
+        log.success("Session state of " + role + " is cached");
+    }
+
+    /**
+     * Restores the cached session state of a given user or role
+     *
+     * @param role user or role the session belongs to
+     * @return returns true if a valid cached state was restored
+     */
+    public boolean restoreSessionState(String role) {
+        SessionState state = SessionStateCache.load(role);
+        if (state == null) {
+            log.info("There is no valid cached session state for " + highlighted(BLUE, role));
+            return false;
+        }
+        restoreSessionState(state);
+        return true;
+    }
+
+    /**
+     * Restores the cached session state of a given user or role, performs the login & caches its state if there is none
+     *
+     * @param role             user or role the session belongs to
+     * @param login            login flow
+     * @param includeIndexedDb captures the IndexedDB databases of the origin if true
+     */
+    public void restoreSessionStateOrLogin(String role, Runnable login, boolean includeIndexedDb) {
+        if (restoreSessionState(role)) return;
+        login.run();
+        saveSessionState(role, includeIndexedDb);
+    }
+
     /**
      * Clicks a button by its {text} text
      *
@@ -681,6 +750,8 @@ public class WebInteractions extends WebUtilities implements PolymorphicUtilitie
      * @param signForms table that has key as "Input" and value as "Input Element" (dataTable.asMaps())
      */
     public void verifyPresenceOfListedElements(List<Bundle<WebElement, String, String>> bundles, WebElement element, List<WebElement> elements, String pageName, List<Map<String, String>> signForms) {
+        DomSnapshot snapshot = captureSnapshot(element, List.of());
+        String text = null;
         for (Bundle<WebElement, String, String> bundle : bundles) {
             String elementName = bundle.beta();
             String expectedText = contextCheck(bundle.theta());
@@ -692,7 +763,10 @@ public class WebInteractions extends WebUtilities implements PolymorphicUtilitie
                     highlighted(GRAY, " with the text: ") +
                     highlighted(BLUE, expectedText)
             );
-            if (!element.getText().contains(expectedText))
+            if (snapshot != null && !DomSnapshot.mayContain(snapshot.root(), expectedText))
+                throw new PickleibException("The " + elementName + " does not contain text '" + expectedText + "' ");
+            if (text == null) text = element.getText();
+            if (!text.contains(expectedText))
                 throw new PickleibException("The " + elementName + " does not contain text '" + expectedText + "' ");
             log.success("Text of '" + elementName + "' verified as '" + expectedText + "'!");
         }
@@ -845,6 +919,10 @@ public class WebInteractions extends WebUtilities implements PolymorphicUtilitie
      * @throws EnumConstantNotPresentException If an unsupported interaction type is encountered in the bundle.
      */
     public void bundleInteraction(List<Bundle<String, WebElement, Map<String, String>>> bundles, String pageName, boolean scroll) {
+        if (planBundleInteractions) {
+            planBundleInteraction(bundles, pageName, scroll).execute();
+            return;
+        }
         for (Bundle<String, WebElement, Map<String, String>> bundle : bundles) {
             InteractionType interactionType = InteractionType.valueOf(bundle.theta().get("Interaction Type"));
             switch (interactionType) {
@@ -864,6 +942,20 @@ public class WebInteractions extends WebUtilities implements PolymorphicUtilitie
         }
     }
 
+    /**
+     * Plans a series of bundle interactions without executing them (dry-run), the plan report is logged.
+     *
+     * @param bundles  The list of bundles, where each bundle contains information for a specific interaction.
+     * @param pageName The name of the page where the interactions are performed.
+     * @param scroll   Scrolls if true
+     * @return returns the plan, which can be executed later on
+     */
+    public InteractionPlanner.Plan planBundleInteraction(List<Bundle<String, WebElement, Map<String, String>>> bundles, String pageName, boolean scroll) {
+        InteractionPlanner.Plan plan = new InteractionPlanner(this).plan(bundles, pageName, scroll);
+        log.info(plan.report());
+        return plan;
+    }
+
     /**
      * Center the {element name} on the {page name}
      *
@@ -1053,6 +1145,19 @@ public class WebInteractions extends WebUtilities implements PolymorphicUtilitie
         super.waitUntilLoads(waitingTime);
     }
 
+    /**
+     * Waits actively for the network of the page to idle
+     *
+     * @param waitingTime wait timeout in seconds
+     */
+    public void waitUntilNetworkIdle(int waitingTime) {
+        log.info("Waiting for the network to idle up to " +
+                highlighted(BLUE, String.valueOf(waitingTime)) +
+                highlighted(GRAY, " seconds")
+        );
+        super.waitUntilNetworkIdles(waitingTime);
+    }
+
     /**
      * Perform a JS click on an element {element name} on the {page name}
      *
@@ -1192,13 +1297,25 @@ public class WebInteractions extends WebUtilities implements PolymorphicUtilitie
      */
     public void listenGetAndVerifyObject(String listenerScript, String eventName, List<Map<String, String>> nodeList) {
         if (isEventFired(eventName, listenerScript)) {
-            for (Map<String, String> nodeMap : nodeList) {
+            // Each node is read in its own try block, so a failing node does not prevent reading the others
+            StringJoiner nodeScript = new StringJoiner(",", "return [", "];");
+            for (Map<String, String> nodeMap : nodeList)
+                nodeScript.add(
+                        "(function(){try{return {value: " + nodeMap.get("Node Source") + "};}" +
+                        "catch(e){return {error: String(e)};}})()"
+                );
+            List<?> nodeValues = (List<?>) super.executeScript(nodeScript.toString());
+
+            for (int index = 0; index < nodeList.size(); index++) {
+                Map<String, String> nodeMap = nodeList.get(index);
                 String nodeSource = nodeMap.get("Node Source");
                 String nodeValue = nodeMap.get("Node Value");
 
                 log.info("Verifying value of '" + highlighted(BLUE, nodeSource) + highlighted(GRAY, "' node"));
-                String nodeScript = "return " + nodeSource;
-                Object object = super.executeScript(nodeScript);
+                Map<?, ?> node = (Map<?, ?>) nodeValues.get(index);
+                if (node.containsKey("error"))
+                    throw new PickleibException("Node " + nodeSource + " could not be read: " + node.get("error"));
+                Object object = node.get("value");
 
                 Pattern sourcePattern = Pattern.compile(nodeValue);
                 Matcher nodeValueMatcher = sourcePattern.matcher(object.toString());
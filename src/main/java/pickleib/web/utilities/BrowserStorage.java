@@ -0,0 +1,185 @@
+package pickleib.web.utilities;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v85.network.Network;
+import org.openqa.selenium.devtools.v85.network.model.CookieParam;
+import org.openqa.selenium.devtools.v85.network.model.CookieSameSite;
+import org.openqa.selenium.devtools.v85.network.model.TimeSinceEpoch;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.util.*;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Bulk cookie & web storage operations.
+ * <p>
+ * Cookies are set with a single Network.setCookies command on Chromium sessions and one by one through WebDriver
+ * elsewhere, since the WebDriver protocol has no command that adds several cookies at once. Storage values are written & verified with a single script per storage. Each bulk write is verified
+ * with a single read, cookies that did not stick are added one by one through WebDriver.
+ */
+@SuppressWarnings("unused")
+public class BrowserStorage {
+
+    private static final Printer log = new Printer(BrowserStorage.class);
+
+    /**
+     * Writes the arguments[1] values (key to value) into the arguments[0] storage ('localStorage' or 'sessionStorage'),
+     * returns the keys that do not read back
+     */
+    private static final String setStorageScript =
+            "var storage = window[arguments[0]], values = arguments[1], mismatches = [];" +
+            "for (var key in values) storage.setItem(key, values[key]);" +
+            "for (var key in values) if (storage.getItem(key) !== values[key]) mismatches.push(key);" +
+            "return mismatches;";
+
+    /**
+     * Returns all values of the arguments[0] storage ('localStorage' or 'sessionStorage')
+     */
+    private static final String getStorageScript =
+            "var storage = window[arguments[0]], values = {};" +
+            "for (var i = 0; i < storage.length; i++) values[storage.key(i)] = storage.getItem(storage.key(i));" +
+            "return values;";
+
+    /**
+     * Web storage types
+     */
+    public enum StorageType {
+        localStorage,
+        sessionStorage
+    }
+
+    /**
+     * Adds cookies to the current domain in bulk, with a single DevTools command on Chromium sessions.
+     * Other browsers get one addCookie command per cookie, WebDriver cannot add cookies in a batch
+     * (a script cannot be used instead, it would not reach HttpOnly cookies).
+     *
+     * @param driver  target driver
+     * @param cookies cookie values, mapped by cookie names
+     */
+    public static void setCookies(RemoteWebDriver driver, Map<String, String> cookies) {
+        if (cookies.isEmpty()) return;
+        if (!setCookiesByDevTools(driver, cookies)) {
+            for (String cookieName : cookies.keySet()) driver.manage().addCookie(new Cookie(cookieName, cookies.get(cookieName)));
+            log.info("Added " + highlighted(BLUE, String.valueOf(cookies.size())) + highlighted(GRAY, " cookie(s)"));
+            return;
+        }
+
+        Map<String, String> present = new HashMap<>();
+        for (Cookie cookie : driver.manage().getCookies()) present.put(cookie.getName(), cookie.getValue());
+        List<String> missing = new ArrayList<>();
+        for (String cookieName : cookies.keySet())
+            if (!Objects.equals(present.get(cookieName), cookies.get(cookieName))) {
+                missing.add(cookieName);
+                driver.manage().addCookie(new Cookie(cookieName, cookies.get(cookieName)));
+            }
+        if (!missing.isEmpty())
+            log.warning("Cookies " + missing + " did not stick in bulk and were added one by one");
+        log.info("Added " + highlighted(BLUE, String.valueOf(cookies.size())) + highlighted(GRAY, " cookie(s)"));
+    }
+
+    /**
+     * Adds cookies with all of their attributes in bulk, Chromium sessions use a single Network.setCookies command.
+     * Other browsers add the cookies one by one, since HttpOnly cookies cannot be set by scripts.
+     *
+     * @param driver  target driver
+     * @param cookies target cookies
+     */
+    public static void setCookies(RemoteWebDriver driver, Collection<Cookie> cookies) {
+        if (cookies.isEmpty()) return;
+        boolean added = false;
+        if (driver instanceof ChromiumDriver && driver instanceof HasDevTools hasDevTools)
+            try {
+                DevTools devTools = hasDevTools.getDevTools();
+                devTools.createSessionIfThereIsNotOne();
+                List<CookieParam> parameters = new ArrayList<>();
+                for (Cookie cookie : cookies)
+                    parameters.add(new CookieParam(
+                            cookie.getName(),
+                            cookie.getValue(),
+                            Optional.empty(),
+                            Optional.ofNullable(cookie.getDomain()),
+                            Optional.ofNullable(cookie.getPath()),
+                            Optional.of(cookie.isSecure()),
+                            Optional.of(cookie.isHttpOnly()),
+                            Optional.ofNullable(cookie.getSameSite()).map(CookieSameSite::fromString),
+                            Optional.ofNullable(cookie.getExpiry()).map(expiry -> new TimeSinceEpoch(expiry.getTime() / 1000)),
+                            Optional.empty()
+                    ));
+                devTools.send(Network.setCookies(parameters));
+                added = true;
+            }
+            catch (WebDriverException | IllegalArgumentException exception) {
+                log.warning("Cookies could not be set through DevTools, adding them one by one (" + exception.getClass().getSimpleName() + ")");
+            }
+        if (!added) for (Cookie cookie : cookies) driver.manage().addCookie(cookie);
+        log.info("Added " + highlighted(BLUE, String.valueOf(cookies.size())) + highlighted(GRAY, " cookie(s)"));
+    }
+
+    /**
+     * Writes values into a web storage in bulk
+     *
+     * @param driver      target driver
+     * @param storageType target storage
+     * @param values      storage values, mapped by keys
+     * @throws PickleibException if any of the values do not read back
+     */
+    public static void setStorage(RemoteWebDriver driver, StorageType storageType, Map<String, String> values) {
+        if (values.isEmpty()) return;
+        List<?> mismatches = (List<?>) ((JavascriptExecutor) driver).executeScript(setStorageScript, storageType.name(), values);
+        if (!mismatches.isEmpty())
+            throw new PickleibException("Values of " + mismatches + " could not be written into the " + storageType.name() + "!");
+        log.info("Added " + highlighted(BLUE, String.valueOf(values.size())) + highlighted(GRAY, " " + storageType.name() + " value(s)"));
+    }
+
+    /**
+     * Reads all values of a web storage
+     *
+     * @param driver      target driver
+     * @param storageType target storage
+     * @return returns the storage values, mapped by keys
+     */
+    public static Map<String, String> getStorage(RemoteWebDriver driver, StorageType storageType) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Object storage = ((JavascriptExecutor) driver).executeScript(getStorageScript, storageType.name());
+        if (storage instanceof Map<?, ?> map) map.forEach((key, value) -> values.put(String.valueOf(key), String.valueOf(value)));
+        return values;
+    }
+
+    private static boolean setCookiesByDevTools(RemoteWebDriver driver, Map<String, String> cookies) {
+        if (!(driver instanceof ChromiumDriver) || !(driver instanceof HasDevTools hasDevTools)) return false;
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            String url = driver.getCurrentUrl();
+            List<CookieParam> parameters = new ArrayList<>();
+            for (String cookieName : cookies.keySet())
+                parameters.add(new CookieParam(
+                        cookieName,
+                        cookies.get(cookieName),
+                        Optional.of(url),
+                        Optional.empty(),
+                        Optional.of("/"),
+                        Optional.empty(),
+                        Optional.empty(),
+                        Optional.empty(),
+                        Optional.empty(),
+                        Optional.empty()
+                ));
+            devTools.send(Network.setCookies(parameters));
+            return true;
+        }
+        catch (WebDriverException exception) {
+            log.warning("Cookies could not be set through DevTools, adding them one by one (" + exception.getClass().getSimpleName() + ")");
+            return false;
+        }
+    }
+}
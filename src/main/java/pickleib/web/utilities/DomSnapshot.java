@@ -0,0 +1,263 @@
+package pickleib.web.utilities;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.select.Elements;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only snapshot of the DOM (or a part of it), parsed locally with jsoup.
+ * <p>
+ * The markup of the root is pulled with a single script call, after which text, attribute and CSS queries are answered
+ * in the JVM without any driver commands. Snapshot elements are mapped back to live {@link WebElement}s by their
+ * child index path only when an interaction is needed.
+ * <p>
+ * Snapshot texts are the normalized text content of the markup and do not reflect the rendering
+ * (texts of hidden elements are included), so they can only rule texts out, see {@link #mayContain(Element, String)}.
+ * Input & textarea values are captured as value attributes.
+ */
+@SuppressWarnings("unused")
+public class DomSnapshot {
+
+    /**
+     * Attribute that marks the reference elements in the snapshot markup
+     */
+    public static final String referenceAttribute = "data-pickleib-ref";
+
+    /**
+     * Clones the arguments[0] root (document element if null), marks the arguments[1] reference elements & copies
+     * current input values into the clone, returns the clone markup along with the tag name of the root parent
+     */
+    private static final String captureScript =
+            "var root = arguments[0] || document.documentElement, references = arguments[1] || [];" +
+            "var clone = root.cloneNode(true);" +
+            "var indices = new Map();" +
+            "for (var i = 0; i < references.length; i++) {" +
+            "  if (!indices.has(references[i])) indices.set(references[i], []);" +
+            "  indices.get(references[i]).push(i);" +
+            "}" +
+            "var original = document.createTreeWalker(root, NodeFilter.SHOW_ELEMENT);" +
+            "var copy = document.createTreeWalker(clone, NodeFilter.SHOW_ELEMENT);" +
+            "var node = root, cloned = clone;" +
+            "while (node && cloned) {" +
+            "  if (indices.has(node)) cloned.setAttribute('" + referenceAttribute + "', indices.get(node).join(' '));" +
+            "  if (node.tagName === 'INPUT' || node.tagName === 'TEXTAREA' || node.tagName === 'SELECT')" +
+            "    cloned.setAttribute('value', node.value);" +
+            "  node = original.nextNode(); cloned = copy.nextNode();" +
+            "}" +
+            "return [clone.outerHTML, root.parentElement ? root.parentElement.tagName.toLowerCase() : null];";
+
+    /**
+     * Follows the arguments[1] child index path from the arguments[0] root (document element if null)
+     */
+    private static final String resolveScript =
+            "var node = arguments[0] || document.documentElement, path = arguments[1];" +
+            "for (var i = 0; i < path.length && node; i++) node = node.children[path[i]];" +
+            "return node || null;";
+
+    private final RemoteWebDriver driver;
+    private final WebElement liveRoot;
+    private final Element root;
+    private Map<Integer, Element> references;
+
+    private DomSnapshot(RemoteWebDriver driver, WebElement liveRoot, Element root) {
+        this.driver = driver;
+        this.liveRoot = liveRoot;
+        this.root = root;
+    }
+
+    /**
+     * Captures a snapshot of the whole page
+     *
+     * @param driver target driver
+     * @return returns the snapshot
+     */
+    public static DomSnapshot capture(RemoteWebDriver driver) {
+        return capture(driver, null, Collections.emptyList());
+    }
+
+    /**
+     * Captures a snapshot of a given root element
+     *
+     * @param driver target driver
+     * @param root   snapshot root
+     * @return returns the snapshot
+     */
+    public static DomSnapshot capture(RemoteWebDriver driver, WebElement root) {
+        return capture(driver, root, Collections.emptyList());
+    }
+
+    /**
+     * Captures a snapshot of a given root element, given reference elements can be acquired from the snapshot
+     * by their indices via {@link #reference(int)}
+     *
+     * @param driver     target driver
+     * @param root       snapshot root, the whole page if null
+     * @param references reference elements
+     * @return returns the snapshot
+     */
+    public static DomSnapshot capture(RemoteWebDriver driver, WebElement root, List<WebElement> references) {
+        List<?> capture = (List<?>) ((JavascriptExecutor) driver).executeScript(captureScript, root, references);
+        return parse(driver, root, (String) capture.get(0), (String) capture.get(1));
+    }
+
+    /**
+     * Parses captured snapshot markup
+     *
+     * @param driver    target driver
+     * @param root      live snapshot root, the whole page if null
+     * @param markup    markup of the snapshot root
+     * @param parentTag tag name of the parent of the snapshot root, null if the root is the document element
+     * @return returns the snapshot
+     */
+    static DomSnapshot parse(RemoteWebDriver driver, WebElement root, String markup, String parentTag) {
+        Element snapshotRoot;
+        if (root == null || parentTag == null) snapshotRoot = Jsoup.parse(markup).child(0);
+        else {
+            Element context = new Element(parentTag);
+            snapshotRoot = Parser.parseFragment(markup, context, "").stream()
+                    .filter(node -> node instanceof Element)
+                    .map(node -> (Element) node)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Snapshot markup could not be parsed!"));
+        }
+        return new DomSnapshot(driver, root, snapshotRoot);
+    }
+
+    /**
+     * Acquires the root of the snapshot
+     *
+     * @return returns the snapshot root
+     */
+    public Element root() {
+        return root;
+    }
+
+    /**
+     * Selects snapshot elements by a CSS query
+     *
+     * @param cssQuery CSS query
+     * @return returns the matching elements
+     */
+    public Elements select(String cssQuery) {
+        return root.select(cssQuery);
+    }
+
+    /**
+     * Acquires the first snapshot element matching a CSS query
+     *
+     * @param cssQuery CSS query
+     * @return returns the element, null if there is no match
+     */
+    public Element selectFirst(String cssQuery) {
+        return root.selectFirst(cssQuery);
+    }
+
+    /**
+     * Acquires a reference element marked while capturing
+     *
+     * @param index index of the reference element
+     * @return returns the snapshot element, null if the reference element is not inside the snapshot root
+     */
+    public Element reference(int index) {
+        if (references == null) {
+            references = new HashMap<>();
+            for (Element element : root.select("[" + referenceAttribute + "]"))
+                for (String reference : element.attr(referenceAttribute).split(" "))
+                    references.put(Integer.parseInt(reference), element);
+        }
+        return references.get(index);
+    }
+
+    /**
+     * Acquires the text of the first snapshot element matching a CSS query
+     *
+     * @param cssQuery CSS query
+     * @return returns the text, null if there is no match
+     */
+    public String text(String cssQuery) {
+        Element element = selectFirst(cssQuery);
+        return element != null ? element.text() : null;
+    }
+
+    /**
+     * Acquires the texts of snapshot elements matching a CSS query
+     *
+     * @param cssQuery CSS query
+     * @return returns the texts
+     */
+    public List<String> texts(String cssQuery) {
+        return select(cssQuery).eachText();
+    }
+
+    /**
+     * Acquires an attribute of the first snapshot element matching a CSS query
+     *
+     * @param cssQuery      CSS query
+     * @param attributeName attribute name
+     * @return returns the attribute value, null if there is no match or the attribute is absent
+     */
+    public String attribute(String cssQuery, String attributeName) {
+        Element element = selectFirst(cssQuery);
+        return element != null && element.hasAttr(attributeName) ? element.attr(attributeName) : null;
+    }
+
+    /**
+     * Acquires the first snapshot element matching a CSS query whose text equals (ignoring case) or contains a given text
+     *
+     * @param cssQuery CSS query
+     * @param text     target text
+     * @return returns the element, null if there is no match
+     */
+    public Element findByText(String cssQuery, String text) {
+        for (Element element : select(cssQuery))
+            if (element.text().equalsIgnoreCase(text) || element.text().contains(text)) return element;
+        return null;
+    }
+
+    /**
+     * Checks if the rendered text of a snapshot element can contain a given text. Snapshot texts include hidden texts,
+     * so a true result does not mean the rendered text contains the given text, it has to be confirmed with a live read.
+     * Case and whitespace are ignored, since text transforms & block boundaries change them in the rendered text.
+     * Texts of CSS generated content are not part of the snapshot.
+     *
+     * @param element snapshot element
+     * @param text    target text
+     * @return returns false if the rendered text cannot contain the given text
+     */
+    public static boolean mayContain(Element element, String text) {
+        return squash(element.text()).contains(squash(text));
+    }
+
+    private static String squash(String text) {
+        return text.replaceAll("\\s+", "").toLowerCase();
+    }
+
+    /**
+     * Maps a snapshot element back to its live element
+     *
+     * @param element snapshot element
+     * @return returns the live element
+     * @throws NoSuchElementException if the live DOM no longer has an element at the same position
+     */
+    public WebElement toLiveElement(Element element) {
+        List<Integer> path = new ArrayList<>();
+        for (Element node = element; node != root; node = node.parent()) {
+            if (node == null) throw new IllegalArgumentException("The element does not belong to the snapshot!");
+            path.add(0, node.elementSiblingIndex());
+        }
+        Object live = ((JavascriptExecutor) driver).executeScript(resolveScript, liveRoot, path);
+        if (live instanceof WebElement webElement) return webElement;
+        throw new NoSuchElementException("The live DOM does not contain the snapshot element " + element.cssSelector());
+    }
+}
@@ -0,0 +1,221 @@
+package pickleib.web.utilities;
+
+import context.ContextStore;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import pickleib.driver.SessionTimeouts;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Element geometry acquired in a single script: viewport size, scroll offsets and the bounding rects of any number
+ * of elements, instead of a window size, location or rect command per value.
+ * Rects are relative to the viewport, as reported by getBoundingClientRect.
+ */
+@SuppressWarnings("unused")
+public class ElementGeometry {
+
+    /**
+     * determines how long centering waits for the scroll to settle at most, in milliseconds
+     */
+    static long scrollSettleTimeout = Long.parseLong(ContextStore.get("scroll-settle-timeout", "1000"));
+
+    /**
+     * Returns [viewport width, viewport height, scroll x, scroll y, [[x, y, width, height] of each element]]
+     * for the elements listed in the 'elements' variable
+     */
+    private static final String geometryReturn =
+            "return [" +
+            "  window.innerWidth || document.documentElement.clientWidth," +
+            "  window.innerHeight || document.documentElement.clientHeight," +
+            "  window.scrollX, window.scrollY," +
+            "  Array.prototype.map.call(elements, function (element) {" +
+            "    var rect = element.getBoundingClientRect();" +
+            "    return [rect.x, rect.y, rect.width, rect.height];" +
+            "  })" +
+            "];";
+
+    /**
+     * Returns the geometry of the arguments[0] elements
+     */
+    private static final String geometryScript = "var elements = arguments[0];" + geometryReturn;
+
+    /**
+     * Scrolls the window so that the top of arguments[0] is at the vertical center of the viewport & resolves with
+     * its geometry once the scroll settles: on scrollend, or when the scroll position stays the same for
+     * consecutive animation frames, or after arguments[1] ms. Resolves immediately if no scrolling is needed,
+     * resolves with null without scrolling if arguments[2] is true & the element is already fully in view.
+     */
+    private static final String centerScript =
+            "var target = arguments[0], timeout = arguments[1], ifNeeded = arguments[2], done = arguments[arguments.length - 1];" +
+            "var rect = target.getBoundingClientRect();" +
+            "if (ifNeeded && rect.top >= 0 && rect.left >= 0 &&" +
+            "    rect.bottom <= (window.innerHeight || document.documentElement.clientHeight) &&" +
+            "    rect.right <= (window.innerWidth || document.documentElement.clientWidth)) { done(null); return; }" +
+            "var viewPortHeight = Math.max(document.documentElement.clientHeight, window.innerHeight || 0);" +
+            "var distance = rect.top - (viewPortHeight / 2);" +
+            "function geometry() { var elements = [target]; " + geometryReturn + " }" +
+            "var startX = window.scrollX, startY = window.scrollY;" +
+            "window.scrollBy(0, distance);" +
+            "if (Math.abs(distance) < 1 || (window.scrollX === startX && window.scrollY === startY &&" +
+            "    getComputedStyle(document.scrollingElement || document.documentElement).scrollBehavior !== 'smooth')) {" +
+            "  done(geometry()); return;" +
+            "}" +
+            "var finished = false, lastY = NaN, stableFrames = 0;" +
+            "function finish() {" +
+            "  if (finished) return;" +
+            "  finished = true;" +
+            "  window.removeEventListener('scrollend', finish);" +
+            "  done(geometry());" +
+            "}" +
+            "if ('onscrollend' in window) window.addEventListener('scrollend', finish);" +
+            "(function onFrame() {" +
+            "  if (finished) return;" +
+            "  if (window.scrollY === lastY) { if (++stableFrames >= 3) { finish(); return; } }" +
+            "  else { stableFrames = 0; lastY = window.scrollY; }" +
+            "  requestAnimationFrame(onFrame);" +
+            "})();" +
+            "setTimeout(finish, timeout);";
+
+    /**
+     * Bounding rect of an element, relative to the viewport
+     *
+     * @param x      left edge
+     * @param y      top edge
+     * @param width  width
+     * @param height height
+     */
+    public record Rect(double x, double y, double width, double height) {
+
+        public double top() {
+            return y;
+        }
+
+        public double left() {
+            return x;
+        }
+
+        public double bottom() {
+            return y + height;
+        }
+
+        public double right() {
+            return x + width;
+        }
+    }
+
+    /**
+     * Geometry of the viewport & the requested elements at the time of capture
+     *
+     * @param viewportWidth  viewport width
+     * @param viewportHeight viewport height
+     * @param scrollX        horizontal scroll offset of the window
+     * @param scrollY        vertical scroll offset of the window
+     * @param rects          bounding rects of the elements, in the requested order
+     */
+    public record Snapshot(double viewportWidth, double viewportHeight, double scrollX, double scrollY, List<Rect> rects) {
+
+        /**
+         * Acquires the rect of an element
+         *
+         * @param index index of the element in the requested order
+         * @return returns the bounding rect
+         */
+        public Rect rect(int index) {
+            return rects.get(index);
+        }
+
+        /**
+         * Checks if an element is fully in the viewport
+         *
+         * @param index index of the element in the requested order
+         * @return returns true if all edges of the element are inside the viewport
+         */
+        public boolean isInViewport(int index) {
+            Rect rect = rect(index);
+            return rect.top() >= 0 && rect.left() >= 0 && rect.bottom() <= viewportHeight && rect.right() <= viewportWidth;
+        }
+    }
+
+    /**
+     * Captures the geometry of given elements
+     *
+     * @param driver   target driver
+     * @param elements target elements
+     * @return returns the geometry snapshot
+     */
+    public static Snapshot capture(WebDriver driver, WebElement... elements) {
+        return capture(driver, List.of(elements));
+    }
+
+    /**
+     * Captures the geometry of given elements
+     *
+     * @param driver   target driver
+     * @param elements target elements
+     * @return returns the geometry snapshot
+     */
+    public static Snapshot capture(WebDriver driver, List<WebElement> elements) {
+        return parse(((JavascriptExecutor) driver).executeScript(geometryScript, elements));
+    }
+
+    /**
+     * Scrolls an element to the vertical center of the viewport & captures its geometry once the scroll settles
+     *
+     * @param driver  target driver
+     * @param element target element
+     * @return returns the geometry snapshot after scrolling
+     */
+    public static Snapshot scrollToCenter(WebDriver driver, WebElement element) {
+        return parse(center(driver, element, false));
+    }
+
+    /**
+     * Scrolls an element to the vertical center of the viewport unless it is already fully in view, in a single script
+     *
+     * @param driver  target driver
+     * @param element target element
+     * @return returns true if the element was out of view & got centered
+     */
+    public static boolean scrollToCenterIfNeeded(WebDriver driver, WebElement element) {
+        return center(driver, element, true) != null;
+    }
+
+    private static Object center(WebDriver driver, WebElement element, boolean ifNeeded) {
+        Duration scriptTimeout = SessionTimeouts.getScriptTimeout(driver);
+        if (scriptTimeout != null && scriptTimeout.toMillis() < scrollSettleTimeout * 2)
+            SessionTimeouts.scriptTimeout(driver, Duration.ofMillis(scrollSettleTimeout * 2));
+        return ((JavascriptExecutor) driver).executeAsyncScript(centerScript, element, scrollSettleTimeout, ifNeeded);
+    }
+
+    private static Snapshot parse(Object result) {
+        List<?> geometry = (List<?>) result;
+        List<Rect> rects = new ArrayList<>();
+        for (Object rect : (List<?>) geometry.get(4)) {
+            List<?> values = (List<?>) rect;
+            rects.add(new Rect(number(values.get(0)), number(values.get(1)), number(values.get(2)), number(values.get(3))));
+        }
+        return new Snapshot(
+                number(geometry.get(0)),
+                number(geometry.get(1)),
+                number(geometry.get(2)),
+                number(geometry.get(3)),
+                rects
+        );
+    }
+
+    private static double number(Object value) {
+        return ((Number) value).doubleValue();
+    }
+
+    public static void setScrollSettleTimeout(long scrollSettleTimeout) {
+        ElementGeometry.scrollSettleTimeout = scrollSettleTimeout;
+    }
+
+    public static long getScrollSettleTimeout() {
+        return scrollSettleTimeout;
+    }
+}
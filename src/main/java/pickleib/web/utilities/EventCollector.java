@@ -0,0 +1,162 @@
+package pickleib.web.utilities;
+
+import context.ContextStore;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects data layer events into an in-page ring buffer.
+ * <p>
+ * Listener callbacks and console.warn messages are recorded in a fixed size buffer on the page,
+ * each entry gets a monotonically increasing cursor. Reads only return the entries recorded after
+ * the last read cursor, so a check costs the new entries instead of the whole browser log,
+ * and the browser log is left untouched for other checks. The cursor restarts when the page (and its buffer) changes.
+ * <p>
+ * The buffer lives on the page, it is installed by the first {@link #listen(String)} or {@link #install()} call
+ * after each navigation. console.warn messages logged before that (ex: during the page load) are not recorded.
+ */
+@SuppressWarnings("unused")
+public class EventCollector {
+
+    /**
+     * determines how many entries the in-page buffer keeps
+     */
+    static int bufferSize = Integer.parseInt(ContextStore.get("event-buffer-size", "500"));
+
+    /**
+     * Installs the ring buffer (arguments[0] entries) if the page does not have one,
+     * console.warn messages are recorded along with the listener callbacks
+     */
+    private static final String installScript =
+            "if (!window.__pickleibEvents) {" +
+            "  var buffer = {id: Date.now().toString(36) + Math.random().toString(36).slice(2), next: 0, size: arguments[0], entries: []};" +
+            "  buffer.record = function (name, key) {" +
+            "    buffer.entries[buffer.next % buffer.size] = {cursor: buffer.next, name: name, key: key};" +
+            "    buffer.next++;" +
+            "  };" +
+            "  var warn = console.warn;" +
+            "  console.warn = function () {" +
+            "    try { buffer.record('console', Array.prototype.map.call(arguments, String).join(' ')); } catch (e) {}" +
+            "    return warn.apply(console, arguments);" +
+            "  };" +
+            "  window.__pickleibEvents = buffer;" +
+            "}";
+
+    /**
+     * Returns the buffer id, the next cursor & the entries from the arguments[2] cursor of the arguments[1] buffer,
+     * all entries if the buffer id differs
+     */
+    private static final String readScript =
+            "var buffer = window.__pickleibEvents;" +
+            "if (!buffer) return null;" +
+            "var since = buffer.id === arguments[1] ? arguments[2] : 0;" +
+            "var entries = buffer.entries.filter(function (entry) { return entry && entry.cursor >= since; });" +
+            "entries.sort(function (a, b) { return a.cursor - b.cursor; });" +
+            "return {id: buffer.id, next: buffer.next, entries: entries};";
+
+    /**
+     * Recorded event
+     *
+     * @param cursor position of the event in the buffer
+     * @param name   event name, 'console' for console.warn messages
+     * @param key    event key or console message
+     */
+    public record Event(long cursor, String name, String key) {}
+
+    private final RemoteWebDriver driver;
+    private String bufferId;
+    private long cursor;
+
+    public EventCollector(RemoteWebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Builds the callback that records an event into the buffer
+     *
+     * @param eventName event name
+     * @param eventKey  event key
+     * @return returns the callback script
+     */
+    public static String callback(String eventName, String eventKey) {
+        return "function(){window.__pickleibEvents.record(" + quote(eventName) + ", " + quote(eventKey) + ")}";
+    }
+
+    /**
+     * Installs the buffer on the current page if it does not have one, so that console.warn messages are recorded
+     * from this point on
+     */
+    public synchronized void install() {
+        ((JavascriptExecutor) driver).executeScript(installScript, bufferSize);
+    }
+
+    /**
+     * Installs the buffer, runs a listener script & returns the entries recorded since the last read, in a single script.
+     * The listener script runs in its own function scope, so its variables & return statements do not affect the read.
+     *
+     * @param listenerScript listener script, callbacks should be built with {@link #callback(String, String)}
+     * @return returns the new entries
+     */
+    public synchronized List<Event> listen(String listenerScript) {
+        return parse(((JavascriptExecutor) driver).executeScript(
+                installScript + "(function () {" + listenerScript + "\n})();" + readScript,
+                bufferSize,
+                bufferId,
+                cursor
+        ));
+    }
+
+    /**
+     * Reads the entries recorded since the last read
+     *
+     * @return returns the new entries
+     */
+    public synchronized List<Event> read() {
+        return parse(((JavascriptExecutor) driver).executeScript(readScript, bufferSize, bufferId, cursor));
+    }
+
+    /**
+     * Checks if a list of entries includes an event key
+     *
+     * @param events   recorded entries
+     * @param eventKey event key, console messages that contain the key are matched as well
+     * @return returns true if the key is recorded
+     */
+    public static boolean contains(List<Event> events, String eventKey) {
+        for (Event event : events)
+            if (event.key() != null && event.key().contains(eventKey)) return true;
+        return false;
+    }
+
+    private List<Event> parse(Object result) {
+        List<Event> events = new ArrayList<>();
+        if (!(result instanceof Map<?, ?> buffer)) return events;
+        bufferId = String.valueOf(buffer.get("id"));
+        cursor = ((Number) buffer.get("next")).longValue();
+        for (Object entry : (List<?>) buffer.get("entries")) {
+            Map<?, ?> event = (Map<?, ?>) entry;
+            events.add(new Event(
+                    ((Number) event.get("cursor")).longValue(),
+                    (String) event.get("name"),
+                    (String) event.get("key")
+            ));
+        }
+        return events;
+    }
+
+    private static String quote(String text) {
+        return "'" + text.replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+
+    public static void setBufferSize(int bufferSize) {
+        EventCollector.bufferSize = bufferSize;
+    }
+
+    public static int getBufferSize() {
+        return bufferSize;
+    }
+}
@@ -0,0 +1,281 @@
+package pickleib.web.utilities;
+
+import context.ContextStore;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v85.network.Network;
+import org.openqa.selenium.devtools.v85.network.model.ResourceType;
+import org.openqa.selenium.devtools.v85.page.Page;
+import utils.Printer;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Waits for page loads & network idleness by DevTools events on Chromium sessions.
+ * <p>
+ * A monitor is attached to a session on first use, it follows Page.loadEventFired, Page.lifecycleEvent
+ * (networkIdle of the main frame) and counts in-flight requests through the Network domain.
+ * Waits block until the matching event arrives instead of polling. Listeners are added once per DevTools connection
+ * & dispatch to the attached monitor, so re-attaching does not pile them up and detaching leaves the listeners of
+ * other components in place. Sessions without DevTools (Firefox, Safari, Appium)
+ * are not supported, callers are expected to fall back to polling when a wait returns null.
+ */
+@SuppressWarnings("unused")
+public class PageLoadMonitor {
+
+    /**
+     * DevTools driven waits are used when supported if true
+     */
+    static boolean enabled = Boolean.parseBoolean(ContextStore.get("devtools-waits", "true"));
+
+    /**
+     * determines how long the network has to stay idle for a network idle wait to pass, in milliseconds
+     */
+    static long networkQuietPeriod = Long.parseLong(ContextStore.get("network-quiet-period", "500"));
+
+    /**
+     * determines how many requests may still be in flight while the network is considered idle,
+     * allows for long polling connections (event streams & websockets are not counted)
+     */
+    static int networkIdleMaxInFlight = Integer.parseInt(ContextStore.get("network-idle-max-inflight", "2"));
+
+    private static final Printer log = new Printer(PageLoadMonitor.class);
+    private static final Map<WebDriver, PageLoadMonitor> monitors = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Receives the events of a DevTools connection, holds the attached monitor (null while detached)
+     */
+    private static final Map<DevTools, AtomicReference<PageLoadMonitor>> receivers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final JavascriptExecutor executor;
+    private final DevTools devTools;
+    private final Set<String> inFlightRequests = new HashSet<>();
+    private String mainFrameId;
+    private long loadEvents;
+    private long lastNetworkActivity = System.currentTimeMillis();
+    private boolean networkIdle;
+
+    private PageLoadMonitor(JavascriptExecutor executor, DevTools devTools) {
+        this.executor = executor;
+        this.devTools = devTools;
+    }
+
+    /**
+     * Waits until the page load event fires, returns immediately if the document is already loaded
+     *
+     * @param driver  target driver
+     * @param timeout wait timeout
+     * @return returns true if the page is loaded, false if the wait times out, null if the wait is not supported
+     */
+    public static Boolean waitForLoad(WebDriver driver, Duration timeout) {
+        PageLoadMonitor monitor = monitor(driver);
+        if (monitor == null) return null;
+        long loadEvents;
+        synchronized (monitor) {
+            loadEvents = monitor.loadEvents;
+        }
+        if (monitor.isDocumentComplete()) return true;
+        return monitor.await(() -> monitor.loadEvents > loadEvents, timeout);
+    }
+
+    /**
+     * Waits until the network is idle: the main frame has reported networkIdle since its last navigation, and no more
+     * than the configured number of requests (XHR & fetch calls included) are in flight for the quiet period
+     *
+     * @param driver  target driver
+     * @param timeout wait timeout
+     * @return returns true if the network is idle, false if the wait times out, null if the wait is not supported
+     */
+    public static Boolean waitForNetworkIdle(WebDriver driver, Duration timeout) {
+        PageLoadMonitor monitor = monitor(driver);
+        if (monitor == null) return null;
+        return monitor.await(
+                () -> monitor.networkIdle && monitor.inFlightRequests.size() <= networkIdleMaxInFlight &&
+                        System.currentTimeMillis() - monitor.lastNetworkActivity >= networkQuietPeriod,
+                timeout
+        );
+    }
+
+    /**
+     * Acquires the number of requests in flight for a session
+     *
+     * @param driver target driver
+     * @return returns the request count, null if the session is not monitored
+     */
+    public static Integer getInFlightRequestCount(WebDriver driver) {
+        PageLoadMonitor monitor = monitors.get(driver);
+        if (monitor == null) return null;
+        synchronized (monitor) {
+            return monitor.inFlightRequests.size();
+        }
+    }
+
+    /**
+     * Checks if DevTools driven waits can be used with a given driver
+     *
+     * @param driver target driver
+     * @return returns true if the driver is a Chromium session with DevTools
+     */
+    public static boolean isSupported(WebDriver driver) {
+        return enabled && driver instanceof ChromiumDriver && driver instanceof HasDevTools;
+    }
+
+    /**
+     * Detaches the monitor of a session & disables the domains it enabled. Its listeners stop dispatching to it,
+     * listeners of other components on the same DevTools connection are left in place.
+     *
+     * @param driver target driver
+     */
+    public static void detach(WebDriver driver) {
+        PageLoadMonitor monitor = monitors.remove(driver);
+        if (monitor == null) return;
+        AtomicReference<PageLoadMonitor> receiver = receivers.get(monitor.devTools);
+        if (receiver != null) receiver.compareAndSet(monitor, null);
+        try {
+            monitor.devTools.send(Network.disable());
+            monitor.devTools.send(Page.disable());
+        }
+        catch (WebDriverException exception) {
+            log.warning("DevTools listeners could not be detached (" + exception.getClass().getSimpleName() + ")");
+        }
+    }
+
+    private static PageLoadMonitor monitor(WebDriver driver) {
+        if (!isSupported(driver)) return null;
+        synchronized (monitors) {
+            if (monitors.containsKey(driver)) return monitors.get(driver); // null if the attachment failed before
+            PageLoadMonitor monitor = null;
+            try {
+                monitor = attach(driver);
+            }
+            catch (RuntimeException exception) {
+                log.warning("DevTools waits are not available, polling instead (" + exception.getClass().getSimpleName() + ")");
+            }
+            monitors.put(driver, monitor);
+            return monitor;
+        }
+    }
+
+    private static PageLoadMonitor attach(WebDriver driver) {
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        PageLoadMonitor monitor = new PageLoadMonitor((JavascriptExecutor) driver, devTools);
+        devTools.createSessionIfThereIsNotOne();
+        devTools.send(Page.enable());
+        devTools.send(Page.setLifecycleEventsEnabled(true));
+        devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+
+        // Lifecycle events of the current document have passed already, so the monitor starts from the frame tree
+        monitor.mainFrameId = devTools.send(Page.getFrameTree()).getFrame().getId().toString();
+        monitor.networkIdle = monitor.isDocumentComplete();
+
+        AtomicReference<PageLoadMonitor> receiver = receivers.get(devTools);
+        if (receiver == null) {
+            receiver = new AtomicReference<>();
+            receivers.put(devTools, receiver);
+            addListeners(devTools, receiver);
+        }
+        receiver.set(monitor);
+        return monitor;
+    }
+
+    private static void addListeners(DevTools devTools, AtomicReference<PageLoadMonitor> receiver) {
+        devTools.addListener(Page.loadEventFired(), dispatch(receiver, (monitor, time) -> monitor.loadEvents++));
+        devTools.addListener(Page.frameNavigated(), dispatch(receiver, (monitor, frame) -> {
+            if (frame.getParentId().isEmpty()) monitor.mainFrameId = frame.getId().toString();
+        }));
+        devTools.addListener(Page.lifecycleEvent(), dispatch(receiver, (monitor, event) -> {
+            if (monitor.mainFrameId != null && !monitor.mainFrameId.equals(event.getFrameId().toString())) return;
+            switch (event.getName()) {
+                case "init" -> monitor.networkIdle = false;
+                case "networkIdle" -> monitor.networkIdle = true;
+            }
+        }));
+        devTools.addListener(Network.requestWillBeSent(), dispatch(receiver, (monitor, request) -> {
+            // Event streams & websockets stay open for the lifetime of the page, they would never let the network go idle
+            if (request.getType().map(type -> type == ResourceType.EVENTSOURCE || type == ResourceType.WEBSOCKET).orElse(false))
+                return;
+            monitor.inFlightRequests.add(request.getRequestId().toString());
+            monitor.lastNetworkActivity = System.currentTimeMillis();
+        }));
+        devTools.addListener(Network.loadingFinished(), dispatch(receiver, (monitor, finished) -> {
+            if (monitor.inFlightRequests.remove(finished.getRequestId().toString()))
+                monitor.lastNetworkActivity = System.currentTimeMillis();
+        }));
+        devTools.addListener(Network.loadingFailed(), dispatch(receiver, (monitor, failed) -> {
+            if (monitor.inFlightRequests.remove(failed.getRequestId().toString()))
+                monitor.lastNetworkActivity = System.currentTimeMillis();
+        }));
+    }
+
+    /**
+     * Creates a listener that applies an event to the attached monitor, events are dropped while detached
+     */
+    private static <Event> Consumer<Event> dispatch(
+            AtomicReference<PageLoadMonitor> receiver,
+            BiConsumer<PageLoadMonitor, Event> handler
+    ) {
+        return event -> {
+            PageLoadMonitor monitor = receiver.get();
+            if (monitor != null) monitor.update(() -> handler.accept(monitor, event));
+        };
+    }
+
+    private synchronized void update(Runnable update) {
+        update.run();
+        notifyAll();
+    }
+
+    private synchronized boolean await(BooleanSupplier condition, Duration timeout) {
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
+        while (!condition.getAsBoolean()) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) return false;
+            try {
+                // Quiet periods pass without events, so waits are capped to re-evaluate them
+                wait(Math.min(remaining, Math.max(networkQuietPeriod, 50)));
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isDocumentComplete() {
+        return "complete".equals(executor.executeScript("return document.readyState"));
+    }
+
+    public static void setEnabled(boolean enabled) {
+        PageLoadMonitor.enabled = enabled;
+    }
+
+    public static void setNetworkQuietPeriod(long networkQuietPeriod) {
+        PageLoadMonitor.networkQuietPeriod = networkQuietPeriod;
+    }
+
+    public static void setNetworkIdleMaxInFlight(int networkIdleMaxInFlight) {
+        PageLoadMonitor.networkIdleMaxInFlight = networkIdleMaxInFlight;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static long getNetworkQuietPeriod() {
+        return networkQuietPeriod;
+    }
+
+    public static int getNetworkIdleMaxInFlight() {
+        return networkIdleMaxInFlight;
+    }
+}
@@ -0,0 +1,196 @@
+package pickleib.web.utilities;
+
+import context.ContextStore;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.driver.SessionTimeouts;
+import utils.Printer;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Runs a scroll-and-look search inside the page.
+ * <p>
+ * The page (or a given scroll container) is scrolled by 90% of its height at a time, the target is looked up after
+ * each scroll settles, and the search ends as soon as the target is displayed. When the container stops moving,
+ * the search waits briefly for lazily loaded content & fails fast if none arrives, instead of running until the timeout.
+ * The whole search is a single async script, callers are expected to fall back to a driver side search when
+ * a search returns null.
+ */
+@SuppressWarnings("unused")
+public class ScrollSearch {
+
+    /**
+     * in-page scroll searches are used on web sessions if true
+     */
+    static boolean enabled = Boolean.parseBoolean(ContextStore.get("in-page-scroll-search", "true"));
+
+    /**
+     * determines how long a search waits for more content once the container reaches its end, in milliseconds
+     */
+    static long endGracePeriod = Long.parseLong(ContextStore.get("scroll-search-end-grace", "500"));
+
+    private static final Printer log = new Printer(ScrollSearch.class);
+
+    /**
+     * Looks up the arguments[1] target by the arguments[0] mode ('css', 'text' or 'element') inside the arguments[2]
+     * container (the page if null), scrolling until it is displayed, the container reaches its end or arguments[3] ms pass.
+     * Resolves with the element (if found), the reason the search ended ('found', 'end' or 'timeout') & the scroll count.
+     */
+    private static final String searchScript =
+            "var mode = arguments[0], query = arguments[1], container = arguments[2], timeout = arguments[3], grace = arguments[4];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var scroller = container || document.scrollingElement || document.documentElement;" +
+            "var deadline = Date.now() + timeout, scrolls = 0;" +
+            "function displayed(element) {" +
+            "  if (!element.isConnected || element.getClientRects().length === 0) return false;" +
+            "  var style = window.getComputedStyle(element);" +
+            "  return style.visibility !== 'hidden' && style.display !== 'none';" +
+            "}" +
+            "function search() {" +
+            "  if (mode === 'element') return displayed(query) ? query : null;" +
+            "  if (mode === 'css') {" +
+            "    var matches = (container || document).querySelectorAll(query);" +
+            "    for (var i = 0; i < matches.length; i++) if (displayed(matches[i])) return matches[i];" +
+            "    return null;" +
+            "  }" +
+            "  var walker = document.createTreeWalker(container || document.body, NodeFilter.SHOW_TEXT);" +
+            "  for (var node = walker.nextNode(); node; node = walker.nextNode())" +
+            "    if ((node.nodeValue === query || node.nodeValue.trim() === query) && node.parentElement && displayed(node.parentElement))" +
+            "      return node.parentElement;" +
+            "  return null;" +
+            "}" +
+            "function finish(element, reason) { done({element: element, reason: reason, scrolls: scrolls}); }" +
+            "function settle(callback) {" +
+            "  var lastTop = NaN, stableFrames = 0;" +
+            "  (function onFrame() {" +
+            "    if (scroller.scrollTop === lastTop) { if (++stableFrames >= 2) { callback(); return; } }" +
+            "    else { stableFrames = 0; lastTop = scroller.scrollTop; }" +
+            "    requestAnimationFrame(onFrame);" +
+            "  })();" +
+            "}" +
+            "function awaitGrowth(height, callback) {" +
+            "  var start = Date.now();" +
+            "  (function check() {" +
+            "    if (scroller.scrollHeight > height) callback(true);" +
+            "    else if (Date.now() - start >= grace || Date.now() > deadline) callback(false);" +
+            "    else setTimeout(check, 50);" +
+            "  })();" +
+            "}" +
+            "function step() {" +
+            "  var found = search();" +
+            "  if (found) { finish(found, 'found'); return; }" +
+            "  if (Date.now() > deadline) { finish(null, 'timeout'); return; }" +
+            "  var before = scroller.scrollTop, height = scroller.scrollHeight;" +
+            "  scroller.scrollBy(0, (container ? container.clientHeight : window.innerHeight) * 0.9);" +
+            "  scrolls++;" +
+            "  settle(function () {" +
+            "    if (scroller.scrollTop !== before) { step(); return; }" +
+            "    awaitGrowth(height, function (grew) {" +
+            "      if (grew) step();" +
+            "      else { var last = search(); finish(last, last ? 'found' : 'end'); }" +
+            "    });" +
+            "  });" +
+            "}" +
+            "step();";
+
+    /**
+     * Outcome of a search
+     *
+     * @param element found element, null if the target was not found
+     * @param reason  reason the search ended: 'found', 'end' (the container reached its end) or 'timeout'
+     * @param scrolls number of scrolls performed
+     */
+    public record Result(WebElement element, String reason, long scrolls) {
+
+        public boolean isFound() {
+            return element != null;
+        }
+    }
+
+    /**
+     * Scrolls until an element matching a CSS selector is displayed
+     *
+     * @param driver      target driver
+     * @param cssSelector target selector
+     * @param container   scroll container, the page if null
+     * @param timeout     search timeout in milliseconds
+     * @return returns the result, null if in-page searches are not supported
+     */
+    public static Result bySelector(RemoteWebDriver driver, String cssSelector, WebElement container, long timeout) {
+        return search(driver, "css", cssSelector, container, timeout);
+    }
+
+    /**
+     * Scrolls until an element with a given text is displayed
+     *
+     * @param driver    target driver
+     * @param text      target element text
+     * @param container scroll container, the page if null
+     * @param timeout   search timeout in milliseconds
+     * @return returns the result, null if in-page searches are not supported
+     */
+    public static Result byText(RemoteWebDriver driver, String text, WebElement container, long timeout) {
+        return search(driver, "text", text, container, timeout);
+    }
+
+    /**
+     * Scrolls until a given element is displayed
+     *
+     * @param driver    target driver
+     * @param element   target element
+     * @param container scroll container, the page if null
+     * @param timeout   search timeout in milliseconds
+     * @return returns the result, null if in-page searches are not supported
+     */
+    public static Result byElement(RemoteWebDriver driver, WebElement element, WebElement container, long timeout) {
+        return search(driver, "element", element, container, timeout);
+    }
+
+    /**
+     * Checks if in-page searches can be used with a given driver
+     *
+     * @param driver target driver
+     * @return returns true if the driver supports async scripts
+     */
+    public static boolean isSupported(RemoteWebDriver driver) {
+        return enabled && driver instanceof JavascriptExecutor && !(driver instanceof AppiumDriver);
+    }
+
+    private static Result search(RemoteWebDriver driver, String mode, Object query, WebElement container, long timeout) {
+        if (!isSupported(driver)) return null;
+        try {
+            SessionTimeouts.scriptTimeout(driver, Duration.ofMillis(timeout + endGracePeriod + 5000));
+            Map<?, ?> result = (Map<?, ?>) driver.executeAsyncScript(searchScript, mode, query, container, timeout, endGracePeriod);
+            return new Result(
+                    (WebElement) result.get("element"),
+                    (String) result.get("reason"),
+                    ((Number) result.get("scrolls")).longValue()
+            );
+        }
+        catch (WebDriverException exception) {
+            log.warning("In-page scroll search is not available, scrolling from the driver instead (" + exception.getClass().getSimpleName() + ")");
+            return null;
+        }
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ScrollSearch.enabled = enabled;
+    }
+
+    public static void setEndGracePeriod(long endGracePeriod) {
+        ScrollSearch.endGracePeriod = endGracePeriod;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static long getEndGracePeriod() {
+        return endGracePeriod;
+    }
+}
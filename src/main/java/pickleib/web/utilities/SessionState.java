@@ -0,0 +1,259 @@
+package pickleib.web.utilities;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import pickleib.driver.SessionTimeouts;
+import pickleib.exceptions.PickleibException;
+import utils.Printer;
+
+import java.time.Duration;
+import java.util.*;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * Serializable snapshot of the authenticated state of an origin:
+ * cookies, localStorage, sessionStorage and optionally IndexedDB.
+ * <p>
+ * Restoring a snapshot takes a navigation to the origin, one cookie command (on Chromium sessions),
+ * one script per storage & a refresh, so scenarios can skip the UI login. IndexedDB values are captured as JSON,
+ * values that do not survive JSON (Blobs, Dates, typed arrays) are not restored faithfully.
+ *
+ * @see SessionStateCache
+ */
+@SuppressWarnings("unused")
+public class SessionState {
+
+    private static final Printer log = new Printer(SessionState.class);
+
+    /**
+     * Resolves with a JSON array of all IndexedDB databases (name, version, stores with their indexes, keys & values)
+     * of the current origin, null if the browser cannot list databases
+     */
+    private static final String captureIndexedDbScript =
+            "var done = arguments[arguments.length - 1];" +
+            "if (!window.indexedDB || !indexedDB.databases) { done(null); return; }" +
+            "indexedDB.databases().then(function (infos) {" +
+            "  return Promise.all(infos.map(function (info) {" +
+            "    return new Promise(function (resolve) {" +
+            "      var request = indexedDB.open(info.name);" +
+            "      request.onerror = function () { resolve(null); };" +
+            "      request.onsuccess = function () {" +
+            "        var db = request.result, names = Array.prototype.slice.call(db.objectStoreNames), stores = [];" +
+            "        if (!names.length) { db.close(); resolve({name: db.name, version: db.version, stores: []}); return; }" +
+            "        var transaction = db.transaction(names, 'readonly'), pending = names.length;" +
+            "        transaction.onerror = function () { db.close(); resolve(null); };" +
+            "        names.forEach(function (name) {" +
+            "          var store = transaction.objectStore(name), keys = store.getAllKeys(), values = store.getAll();" +
+            "          var indexes = Array.prototype.map.call(store.indexNames, function (indexName) {" +
+            "            var index = store.index(indexName);" +
+            "            return {name: index.name, keyPath: index.keyPath, unique: index.unique, multiEntry: index.multiEntry};" +
+            "          });" +
+            "          values.onsuccess = function () {" +
+            "            stores.push({name: name, keyPath: store.keyPath, autoIncrement: store.autoIncrement, indexes: indexes, keys: keys.result, values: values.result});" +
+            "            if (--pending === 0) { db.close(); resolve({name: db.name, version: db.version, stores: stores}); }" +
+            "          };" +
+            "        });" +
+            "      };" +
+            "    });" +
+            "  }));" +
+            "}).then(function (databases) { done(JSON.stringify(databases.filter(Boolean))); }, function () { done(null); });";
+
+    /**
+     * Restores the arguments[0] JSON array of IndexedDB databases, resolves with null on success or the error name
+     */
+    private static final String restoreIndexedDbScript =
+            "var databases = JSON.parse(arguments[0]), done = arguments[arguments.length - 1];" +
+            "Promise.all(databases.map(function (snapshot) {" +
+            "  return new Promise(function (resolve, reject) {" +
+            "    var request = indexedDB.open(snapshot.name, snapshot.version);" +
+            "    request.onupgradeneeded = function () {" +
+            "      var db = request.result;" +
+            "      snapshot.stores.forEach(function (storeSnapshot) {" +
+            "        if (db.objectStoreNames.contains(storeSnapshot.name)) return;" +
+            "        var options = {autoIncrement: storeSnapshot.autoIncrement};" +
+            "        if (storeSnapshot.keyPath !== null) options.keyPath = storeSnapshot.keyPath;" +
+            "        var store = db.createObjectStore(storeSnapshot.name, options);" +
+            "        storeSnapshot.indexes.forEach(function (index) {" +
+            "          store.createIndex(index.name, index.keyPath, {unique: index.unique, multiEntry: index.multiEntry});" +
+            "        });" +
+            "      });" +
+            "    };" +
+            "    request.onerror = function () { reject(request.error ? request.error.name : 'error'); };" +
+            "    request.onsuccess = function () {" +
+            "      var db = request.result;" +
+            "      var stores = snapshot.stores.filter(function (store) { return db.objectStoreNames.contains(store.name); });" +
+            "      if (!stores.length) { db.close(); resolve(); return; }" +
+            "      var transaction = db.transaction(stores.map(function (store) { return store.name; }), 'readwrite');" +
+            "      stores.forEach(function (storeSnapshot) {" +
+            "        var store = transaction.objectStore(storeSnapshot.name);" +
+            "        store.clear();" +
+            "        storeSnapshot.values.forEach(function (value, index) {" +
+            "          if (storeSnapshot.keyPath !== null) store.put(value); else store.put(value, storeSnapshot.keys[index]);" +
+            "        });" +
+            "      });" +
+            "      transaction.oncomplete = function () { db.close(); resolve(); };" +
+            "      transaction.onabort = function () { db.close(); reject(transaction.error ? transaction.error.name : 'abort'); };" +
+            "    };" +
+            "  });" +
+            "})).then(function () { done(null); }, function (error) { done(String(error)); });";
+
+    /**
+     * Serializable cookie
+     */
+    public record CookieState(
+            String name,
+            String value,
+            String domain,
+            String path,
+            Long expiry,
+            boolean secure,
+            boolean httpOnly,
+            String sameSite
+    ) {
+        static CookieState of(Cookie cookie) {
+            return new CookieState(
+                    cookie.getName(),
+                    cookie.getValue(),
+                    cookie.getDomain(),
+                    cookie.getPath(),
+                    cookie.getExpiry() != null ? cookie.getExpiry().getTime() : null,
+                    cookie.isSecure(),
+                    cookie.isHttpOnly(),
+                    cookie.getSameSite()
+            );
+        }
+
+        Cookie toCookie() {
+            Cookie.Builder builder = new Cookie.Builder(name, value)
+                    .domain(domain)
+                    .path(path)
+                    .isSecure(secure)
+                    .isHttpOnly(httpOnly);
+            if (expiry != null) builder.expiresOn(new Date(expiry));
+            if (sameSite != null) builder.sameSite(sameSite);
+            return builder.build();
+        }
+    }
+
+    private final String origin;
+    private final long capturedAt;
+    private final List<CookieState> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+    private final String indexedDb;
+
+    private SessionState(
+            String origin,
+            long capturedAt,
+            List<CookieState> cookies,
+            Map<String, String> localStorage,
+            Map<String, String> sessionStorage,
+            String indexedDb
+    ) {
+        this.origin = origin;
+        this.capturedAt = capturedAt;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+        this.indexedDb = indexedDb;
+    }
+
+    /**
+     * Captures the state of the current origin
+     *
+     * @param driver           target driver
+     * @param includeIndexedDb captures the IndexedDB databases of the origin if true
+     * @return returns the snapshot
+     */
+    public static SessionState capture(RemoteWebDriver driver, boolean includeIndexedDb) {
+        String origin = (String) ((JavascriptExecutor) driver).executeScript("return window.location.origin;");
+        List<CookieState> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) cookies.add(CookieState.of(cookie));
+        String indexedDb = null;
+        if (includeIndexedDb) {
+            SessionTimeouts.scriptTimeout(driver, Duration.ofSeconds(30));
+            indexedDb = (String) driver.executeAsyncScript(captureIndexedDbScript);
+            if (indexedDb == null) log.warning("IndexedDB databases of " + origin + " could not be listed, skipping them");
+        }
+        SessionState state = new SessionState(
+                origin,
+                System.currentTimeMillis(),
+                cookies,
+                BrowserStorage.getStorage(driver, BrowserStorage.StorageType.localStorage),
+                BrowserStorage.getStorage(driver, BrowserStorage.StorageType.sessionStorage),
+                indexedDb
+        );
+        log.info("Captured the session state of " + highlighted(BLUE, origin) + highlighted(GRAY, " (" + state.describe() + ")"));
+        return state;
+    }
+
+    /**
+     * Restores the snapshot into a session, the session is navigated to the origin of the snapshot
+     *
+     * @param driver  target driver
+     * @param refresh reloads the page after restoring, so the application picks up the restored state
+     * @throws PickleibException if the IndexedDB databases cannot be restored
+     */
+    public void restore(RemoteWebDriver driver, boolean refresh) {
+        String currentOrigin = (String) ((JavascriptExecutor) driver).executeScript("return window.location.origin;");
+        if (!origin.equals(currentOrigin)) driver.get(origin);
+        BrowserStorage.setCookies(driver, cookies.stream().map(CookieState::toCookie).toList());
+        BrowserStorage.setStorage(driver, BrowserStorage.StorageType.localStorage, localStorage);
+        BrowserStorage.setStorage(driver, BrowserStorage.StorageType.sessionStorage, sessionStorage);
+        if (indexedDb != null) {
+            SessionTimeouts.scriptTimeout(driver, Duration.ofSeconds(30));
+            Object error = driver.executeAsyncScript(restoreIndexedDbScript, indexedDb);
+            if (error != null) throw new PickleibException("IndexedDB databases of " + origin + " could not be restored: " + error);
+        }
+        if (refresh) driver.navigate().refresh();
+        log.success("Restored the session state of " + origin + " (" + describe() + ")");
+    }
+
+    /**
+     * Checks if the snapshot is expired, either by age or by the expiry of any of its cookies
+     *
+     * @param timeToLive maximum age of the snapshot
+     * @return returns true if the snapshot is expired
+     */
+    public boolean isExpired(Duration timeToLive) {
+        long now = System.currentTimeMillis();
+        if (now - capturedAt > timeToLive.toMillis()) return true;
+        for (CookieState cookie : cookies)
+            if (cookie.expiry() != null && cookie.expiry() <= now) return true;
+        return false;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    public List<CookieState> getCookies() {
+        return Collections.unmodifiableList(cookies);
+    }
+
+    public Map<String, String> getLocalStorage() {
+        return Collections.unmodifiableMap(localStorage);
+    }
+
+    public Map<String, String> getSessionStorage() {
+        return Collections.unmodifiableMap(sessionStorage);
+    }
+
+    public String getIndexedDb() {
+        return indexedDb;
+    }
+
+    private String describe() {
+        return cookies.size() + " cookie(s), " +
+                localStorage.size() + " localStorage & " +
+                sessionStorage.size() + " sessionStorage value(s)" +
+                (indexedDb != null ? ", IndexedDB" : "");
+    }
+}
@@ -0,0 +1,114 @@
+package pickleib.web.utilities;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import context.ContextStore;
+import utils.Printer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import static utils.StringUtilities.Color.*;
+import static utils.StringUtilities.highlighted;
+
+/**
+ * On-disk cache of {@link SessionState} snapshots, keyed by user or role.
+ * <p>
+ * Snapshots expire after the configured time to live or when any of their cookies expire,
+ * expired snapshots are deleted when they are looked up.
+ */
+@SuppressWarnings("unused")
+public class SessionStateCache {
+
+    /**
+     * determines the directory session state snapshots are cached in
+     */
+    static String directory = ContextStore.get("session-state-directory", "target/session-states");
+
+    /**
+     * determines how long a cached snapshot can be used, in seconds
+     */
+    static long timeToLive = Long.parseLong(ContextStore.get("session-state-ttl", "1800"));
+
+    private static final Gson gson = new Gson();
+    private static final Printer log = new Printer(SessionStateCache.class);
+
+    /**
+     * Acquires the cached snapshot of a user or role
+     *
+     * @param key user or role
+     * @return returns the snapshot, null if there is no valid snapshot
+     */
+    public static synchronized SessionState load(String key) {
+        Path path = path(key);
+        if (!Files.exists(path)) return null;
+        try (Reader reader = Files.newBufferedReader(path)) {
+            SessionState state = gson.fromJson(reader, SessionState.class);
+            if (state != null && !state.isExpired(Duration.ofSeconds(timeToLive))) return state;
+            log.info("Cached session state of " + highlighted(BLUE, key) + highlighted(GRAY, " is expired"));
+        }
+        catch (IOException | JsonParseException exception) {
+            log.warning("Cached session state of " + key + " could not be read (" + exception.getMessage() + ")");
+        }
+        evict(key);
+        return null;
+    }
+
+    /**
+     * Caches the snapshot of a user or role
+     *
+     * @param key   user or role
+     * @param state session state snapshot
+     */
+    public static synchronized void store(String key, SessionState state) {
+        Path path = path(key);
+        try {
+            Files.createDirectories(path.getParent());
+            try (Writer writer = Files.newBufferedWriter(path)) {
+                gson.toJson(state, writer);
+            }
+        }
+        catch (IOException exception) {
+            log.warning("Session state of " + key + " could not be cached (" + exception.getMessage() + ")");
+        }
+    }
+
+    /**
+     * Deletes the cached snapshot of a user or role
+     *
+     * @param key user or role
+     */
+    public static synchronized void evict(String key) {
+        try {
+            Files.deleteIfExists(path(key));
+        }
+        catch (IOException exception) {
+            log.warning("Cached session state of " + key + " could not be deleted (" + exception.getMessage() + ")");
+        }
+    }
+
+    private static Path path(String key) {
+        return Paths.get(directory, key.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    }
+
+    public static void setDirectory(String directory) {
+        SessionStateCache.directory = directory;
+    }
+
+    public static void setTimeToLive(long timeToLive) {
+        SessionStateCache.timeToLive = timeToLive;
+    }
+
+    public static String getDirectory() {
+        return directory;
+    }
+
+    public static long getTimeToLive() {
+        return timeToLive;
+    }
+}
@@ -11,14 +11,8 @@ import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.openqa.selenium.*;
-import org.openqa.selenium.html5.LocalStorage;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.logging.LogEntries;
-import org.openqa.selenium.logging.LogEntry;
-import org.openqa.selenium.logging.LogType;
-import org.openqa.selenium.remote.RemoteExecuteMethod;
 import org.openqa.selenium.remote.RemoteWebDriver;
-import org.openqa.selenium.remote.html5.RemoteWebStorage;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import pickleib.enums.Direction;
 import pickleib.enums.ElementState;
@@ -27,13 +21,16 @@ import pickleib.exceptions.PickleibException;
 import pickleib.utilities.Utilities;
 import pickleib.utilities.element.acquisition.ElementAcquisition;
 import pickleib.utilities.interfaces.functions.LocateElement;
+import pickleib.utilities.polling.Poller;
 import pickleib.web.driver.PickleibWebDriver;
 import utils.StringUtilities;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static utils.StringUtilities.Color.*;
 import static utils.StringUtilities.*;
@@ -41,10 +38,17 @@ import static utils.StringUtilities.*;
 public abstract class WebUtilities extends Utilities {
 
     /**
-     * WebUtilities for frameworks that use the Pickleib driver
+     * Collects the fired data layer events of the session
+     */
+    protected EventCollector events;
+
+    /**
+     * WebUtilities for frameworks that use the Pickleib driver,
+     * binds to the driver session of the current thread
      */
     public WebUtilities() {
-        super(PickleibWebDriver.get(), (element) -> centerElement(element, PickleibWebDriver.get()));
+        this(PickleibWebDriver.get());
+        if (PickleibWebDriver.getWait() != null) this.wait = PickleibWebDriver.getWait();
     }
 
     /**
@@ -52,6 +56,7 @@ public abstract class WebUtilities extends Utilities {
      */
     public WebUtilities(RemoteWebDriver driver) {
         super(driver, (element) -> centerElement(element, driver));
+        this.events = new EventCollector(driver);
     }
 
     public RemoteWebDriver driver() {
@@ -141,19 +146,60 @@ public abstract class WebUtilities extends Utilities {
     public WebElement scrollUntilFound(LocateElement locator) {
         log.info("Scrolling until an element is found");
         long initialTime = System.currentTimeMillis();
+        boolean endReached = false;
         do {
             try {
                 WebElement element = locator.locate();
                 if (element.isDisplayed()) return element;
                 else throw new WebDriverException("Element is not displayed (yet)!");
             } catch (WebDriverException ignored) {
-                scrollInDirection(Direction.down);
+                if (endReached) break;
+                // The page stops moving at its end, lazily loaded content gets a grace period to extend the page,
+                // the element is looked up once more before failing if it does not
+                Object height = driver.executeScript(
+                        "var before = window.scrollY; window.scrollBy(0, window.innerHeight * 0.9);" +
+                        "return window.scrollY !== before ? null : document.documentElement.scrollHeight;"
+                );
+                if (height != null)
+                    endReached = !new Poller(ScrollSearch.getEndGracePeriod()).isMet(() -> ((Number) driver.executeScript(
+                            "return document.documentElement.scrollHeight;"
+                    )).longValue() > ((Number) height).longValue());
             }
         }
         while (System.currentTimeMillis() - initialTime < elementTimeout * 5);
         throw new RuntimeException("Element could not be located!");
     }
 
+    /**
+     * Scrolls the page until an element matching a given CSS selector is displayed, the search runs inside the page
+     *
+     * @param cssSelector target element selector
+     * @return returns the element
+     * @throws PickleibException if the element could not be found before the page ends or the search times out
+     */
+    public WebElement scrollUntilFoundBySelector(String cssSelector) {
+        log.info("Scrolling until an element matching " + highlighted(BLUE, cssSelector) + highlighted(GRAY, " is found."));
+        ScrollSearch.Result result = ScrollSearch.bySelector(driver, cssSelector, null, elementTimeout * 5);
+        if (result == null) return scrollUntilFound(() -> driver.findElement(By.cssSelector(cssSelector)));
+        return foundElement(result, cssSelector);
+    }
+
+    /**
+     * Acquires the element of an in-page scroll search
+     *
+     * @param result search result
+     * @param target target description
+     * @return returns the found element
+     * @throws PickleibException if the element was not found
+     */
+    private WebElement foundElement(ScrollSearch.Result result, String target) {
+        if (result.isFound()) return result.element();
+        String reason = result.reason().equals("end") ? "reached the end of the page" : "timed out";
+        throw new PickleibException(
+                "Element " + target + " could not be located! The search " + reason + " after " + result.scrolls() + " scroll(s)."
+        );
+    }
+
     /**
      * Scrolls the viewport in the specified direction.
      *
@@ -196,7 +242,9 @@ public abstract class WebUtilities extends Utilities {
                     highlighted(BLUE, elementText) +
                     highlighted(GRAY, " is found.")
             );
-            return scrollUntilFound(() -> getElementByText(elementText));
+            ScrollSearch.Result result = ScrollSearch.byText(driver, elementText, null, elementTimeout * 5);
+            if (result == null) return scrollUntilFound(() -> getElementByText(elementText));
+            return foundElement(result, elementText);
         }
 
     /**
@@ -212,7 +260,9 @@ public abstract class WebUtilities extends Utilities {
      */
         public WebElement scrollUntilFound(WebElement element) {
             log.info("Scrolling until the element is found.");
-            return scrollUntilFound(() -> element);
+            ScrollSearch.Result result = ScrollSearch.byElement(driver, element, null, elementTimeout * 5);
+            if (result == null) return scrollUntilFound(() -> element);
+            return foundElement(result, element.toString());
         }
 
     /**
@@ -306,13 +356,7 @@ public abstract class WebUtilities extends Utilities {
      */
     //This method scrolls an element to the center of the view
     public static WebElement centerElement(WebElement element, RemoteWebDriver driver) {
-        String scrollScript = "var viewPortHeight = Math.max(document.documentElement.clientHeight, window.innerHeight || 0);"
-                + "var elementTop = arguments[0].getBoundingClientRect().top;"
-                + "window.scrollBy(0, elementTop-(viewPortHeight/2));";
-
-        ((JavascriptExecutor) driver).executeScript(scrollScript, element);
-
-        waitFor(0.3);
+        ElementGeometry.scrollToCenter(driver, element);
         return element;
     }
 
@@ -450,32 +494,17 @@ public abstract class WebUtilities extends Utilities {
      *
      * @param element target element
      * @return returns the selected element
+     * @throws PickleibException if the element cannot be hovered over within the element timeout
      */
     public WebElement hoverOver(WebElement element) {
-        long initialTime = System.currentTimeMillis();
         Actions actions = new Actions(driver);
-        String caughtException = null;
-        boolean timeout;
-        int counter = 0;
-        do {
-            try {
-                centerElement(element);
-                actions.moveToElement(element).build().perform();
-                break;
-            } catch (WebDriverException webDriverException) {
-                if (counter == 0) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                    counter++;
-                } else if (!webDriverException.getClass().getName().equals(caughtException)) {
-                    log.warning("Iterating... (" + webDriverException.getClass().getName() + ")");
-                    caughtException = webDriverException.getClass().getName();
-                    counter++;
-                }
-            }
-            timeout = System.currentTimeMillis() - initialTime > elementTimeout;
-        }
-        while (timeout);
+        Poller poller = new Poller(elementTimeout);
+        boolean hovered = poller.isMet(() -> {
+            centerElement(element);
+            actions.moveToElement(element).build().perform();
+            return true;
+        });
+        if (!hovered) throw new PickleibException("Could not hover over the element!", poller.getLastException());
         return element;
     }
 
@@ -491,8 +520,8 @@ public abstract class WebUtilities extends Utilities {
 
     /**
      * Checks if an event was fired
-     * Create a custom script to listen for an event by generating a unique event key and catches this key in the console
-     * Ex: "dataLayerObject.listen(eventName, function(){console.warn(eventKey)});"
+     * Create a custom script to listen for an event by generating a unique event key and catches this key in the in-page event buffer
+     * Ex: "dataLayerObject.listen(eventName, function(){window.__pickleibEvents.record(eventName, eventKey)});"
      *
      * @param eventName      event name of the event that is expected to be fired
      * @param listenerScript script for calling the listener, ex: "dataLayerObject.listen( eventName );"
@@ -501,14 +530,12 @@ public abstract class WebUtilities extends Utilities {
     public boolean isEventFired(String eventName, String listenerScript) {
         log.info("Listening to '" + eventName + "' event");
         String eventKey = generateRandomString(eventName + "#", 6, false, true);
-        listenerScript = listenerScript.replace(eventName, "'" + eventName + "', function(){console.warn('" + eventKey + "')}");
-        executeScript(listenerScript);
-        LogEntries logs = driver.manage().logs().get(LogType.BROWSER);
-        for (LogEntry entry : logs.getAll())
-            if (entry.toString().contains(eventKey)) {
-                log.success("'" + eventName + "' event is fired!");
-                return true;
-            }
+        listenerScript = listenerScript.replace(eventName, "'" + eventName + "', " + EventCollector.callback(eventName, eventKey));
+        log.info("Executing script: " + highlighted(BLUE, listenerScript));
+        if (EventCollector.contains(events.listen(listenerScript), eventKey)) {
+            log.success("'" + eventName + "' event is fired!");
+            return true;
+        }
         log.warning(eventName + " event is not fired!");
         return false;
     }
@@ -516,16 +543,15 @@ public abstract class WebUtilities extends Utilities {
     /**
      * Checks if an event was fired
      *
-     * @param eventKey       key that is meant to be caught from the console in case the event fires
+     * @param eventKey       key that is meant to be caught from the console in case the event fires, console.warn messages are
+     *                       collected in the in-page event buffer
      * @param listenerScript script for calling the listener, ex: "dataLayerObject.listen('page.info', function(){console.warn(eventKey)});"
      * @return true if the specified event was fired.
      */
     public boolean isEventFiredByScript(String eventKey, String listenerScript) {
         log.info("Listening to '" + markup(BLUE, eventKey) + "' event");
-        executeScript(listenerScript);
-        LogEntries logs = driver.manage().logs().get(LogType.BROWSER);
-        for (LogEntry entry : logs.getAll()) if (entry.toString().contains(eventKey)) return true;
-        return false;
+        log.info("Executing script: " + highlighted(BLUE, listenerScript));
+        return EventCollector.contains(events.listen(listenerScript), eventKey);
     }
 
     /**
@@ -546,12 +572,9 @@ public abstract class WebUtilities extends Utilities {
      * @param form Map(String, String)
      */
     public void addValuesToLocalStorage(Map<String, String> form) {
-        for (String valueKey : form.keySet()) {
-            RemoteExecuteMethod executeMethod = new RemoteExecuteMethod(driver);
-            RemoteWebStorage webStorage = new RemoteWebStorage(executeMethod);
-            LocalStorage storage = webStorage.getLocalStorage();
-            storage.setItem(valueKey, contextCheck(form.get(valueKey)));
-        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String valueKey : form.keySet()) values.put(valueKey, contextCheck(form.get(valueKey)));
+        BrowserStorage.setStorage(driver, BrowserStorage.StorageType.localStorage, values);
     }
 
     /**
@@ -560,10 +583,9 @@ public abstract class WebUtilities extends Utilities {
      * @param cookies Map(String, String)
      */
     public void addCookies(Map<String, String> cookies) {
-        for (String cookieName : cookies.keySet()) {
-            Cookie cookie = new Cookie(cookieName, contextCheck(cookies.get(cookieName)));
-            driver.manage().addCookie(cookie);
-        }
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String cookieName : cookies.keySet()) values.put(cookieName, contextCheck(cookies.get(cookieName)));
+        BrowserStorage.setCookies(driver, values);
     }
 
     /**
@@ -620,19 +642,53 @@ public abstract class WebUtilities extends Utilities {
         String url = driver.getCurrentUrl();
         log.info("Waiting for page to be loaded -> " + markup(BLUE, url));
 
-        ExpectedCondition<Boolean> pageLoadCondition = driverLoad ->
-        {
-            assert driverLoad != null;
-            return ((JavascriptExecutor) driverLoad).executeScript("return document.readyState").equals("complete");
-        };
-
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(waitingTime));
-        wait.until(pageLoadCondition);
+        Boolean loaded = PageLoadMonitor.waitForLoad(driver, Duration.ofSeconds(waitingTime));
+        if (Boolean.FALSE.equals(loaded))
+            throw new TimeoutException("The page " + url + " did not load in " + waitingTime + " second(s)!");
+        else if (loaded == null) {
+            ExpectedCondition<Boolean> pageLoadCondition = driverLoad ->
+            {
+                assert driverLoad != null;
+                return ((JavascriptExecutor) driverLoad).executeScript("return document.readyState").equals("complete");
+            };
+
+            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(waitingTime));
+            wait.until(pageLoadCondition);
+        }
         long elapsedTime = System.currentTimeMillis() - startTime;
         int elapsedTimeSeconds = (int) ((double) elapsedTime / 1000);
         log.info("The page is loaded in " + elapsedTimeSeconds + " second(s)");
     }
 
+    /**
+     * Waits until the network of the page is idle, Chromium sessions wait on DevTools network events,
+     * other sessions poll the resource timing entries of the page until they stop growing
+     *
+     * @param waitingTime wait timeout in seconds
+     */
+    protected void waitUntilNetworkIdles(int waitingTime) {
+        long startTime = System.currentTimeMillis();
+        Boolean idle = PageLoadMonitor.waitForNetworkIdle(driver, Duration.ofSeconds(waitingTime));
+        if (idle == null) {
+            long quietPeriod = PageLoadMonitor.getNetworkQuietPeriod();
+            long[] lastChange = {System.currentTimeMillis()};
+            Object[] lastCount = {null};
+            idle = new Poller(waitingTime * 1000L).isMet(() -> {
+                Object count = driver.executeScript(
+                        "return document.readyState === 'complete' ? performance.getEntriesByType('resource').length : -1;"
+                );
+                if (!Objects.equals(count, lastCount[0])) {
+                    lastCount[0] = count;
+                    lastChange[0] = System.currentTimeMillis();
+                    return false;
+                }
+                return !Objects.equals(count, -1L) && System.currentTimeMillis() - lastChange[0] >= quietPeriod;
+            });
+        }
+        if (!idle) throw new TimeoutException("The network did not idle in " + waitingTime + " second(s)!");
+        log.info("The network idled in " + (System.currentTimeMillis() - startTime) + " ms");
+    }
+
     /**
      * Scrolls the container element to bring the target element into view.
      *
@@ -650,8 +706,8 @@ public abstract class WebUtilities extends Utilities {
     public WebElement scrollInContainer(WebElement container, List<WebElement> elements, String targetElementText) {
         log.info("Scrolling " + targetElementText + " in view");
         WebElement targetElement = ElementAcquisition.acquireNamedElementAmongst(elements, targetElementText);
-        WebElement firstElement = elements.get(0);
-        double distance = Math.abs(firstElement.getLocation().getY() - targetElement.getLocation().getY());
+        ElementGeometry.Snapshot geometry = ElementGeometry.capture(driver, elements.get(0), targetElement);
+        double distance = Math.abs(geometry.rect(0).top() - geometry.rect(1).top());
         ((JavascriptExecutor) driver).executeScript("arguments[0].scrollBy(0, "+distance+");", container);
         return  targetElement;
     }
@@ -670,15 +726,7 @@ public abstract class WebUtilities extends Utilities {
      * @since 2.0.0
      */
     public boolean elementIsInView(WebElement element) {
-        String script = "var rect = arguments[0].getBoundingClientRect();" +
-                "    return (" +
-                "        rect.top >= 0 &&" +
-                "        rect.left >= 0 &&" +
-                "        rect.bottom <= (window.innerHeight || document.documentElement.clientHeight) &&\n" +
-                "        rect.right <= (window.innerWidth || document.documentElement.clientWidth)\n" +
-                "    );";
-
-        return Boolean.parseBoolean(((JavascriptExecutor) driver).executeScript(script, element).toString());
+        return ElementGeometry.capture(driver, element).isInViewport(0);
     }
 
 }
@@ -0,0 +1,116 @@
+package pickleib.driver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SessionTimeoutsTest {
+
+    boolean zeroImplicitWait;
+    List<String> commands;
+    WebDriver driver;
+
+    @Before
+    public void before() {
+        zeroImplicitWait = SessionTimeouts.isZeroImplicitWait();
+        SessionTimeouts.setZeroImplicitWait(true);
+        commands = new ArrayList<>();
+        driver = driver(commands);
+    }
+
+    @After
+    public void after() {
+        SessionTimeouts.setZeroImplicitWait(zeroImplicitWait);
+    }
+
+    /**
+     * Creates a driver that only records the timeouts commands sent to it
+     */
+    static WebDriver driver(List<String> commands) {
+        WebDriver.Timeouts timeouts = (WebDriver.Timeouts) Proxy.newProxyInstance(
+                WebDriver.Timeouts.class.getClassLoader(),
+                new Class[]{WebDriver.Timeouts.class},
+                (proxy, method, arguments) -> {
+                    commands.add(method.getName() + " " + arguments[0]);
+                    return proxy;
+                }
+        );
+        WebDriver.Options options = (WebDriver.Options) Proxy.newProxyInstance(
+                WebDriver.Options.class.getClassLoader(),
+                new Class[]{WebDriver.Options.class},
+                (proxy, method, arguments) -> method.getName().equals("timeouts") ? timeouts : null
+        );
+        return (WebDriver) Proxy.newProxyInstance(
+                WebDriver.class.getClassLoader(),
+                new Class[]{WebDriver.class},
+                (proxy, method, arguments) -> switch (method.getName()) {
+                    case "manage" -> options;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == arguments[0];
+                    default -> null;
+                }
+        );
+    }
+
+    @Test
+    public void unchangedTimeoutsAreNotResent() {
+        SessionTimeouts.implicitlyWait(driver, Duration.ofSeconds(2));
+        SessionTimeouts.implicitlyWait(driver, Duration.ofSeconds(2));
+        SessionTimeouts.scriptTimeout(driver, Duration.ofSeconds(10));
+        SessionTimeouts.scriptTimeout(driver, Duration.ofSeconds(10));
+        SessionTimeouts.implicitlyWait(driver, Duration.ofSeconds(3));
+        Assert.assertEquals(List.of("implicitlyWait PT2S", "scriptTimeout PT10S", "implicitlyWait PT3S"), commands);
+        Assert.assertEquals(Duration.ofSeconds(3), SessionTimeouts.getImplicitWait(driver));
+        Assert.assertEquals(Duration.ofSeconds(10), SessionTimeouts.getScriptTimeout(driver));
+    }
+
+    @Test
+    public void withImplicitWaitRestoresTheDefault() {
+        String result = SessionTimeouts.withImplicitWait(driver, Duration.ofSeconds(1), () -> "done");
+        Assert.assertEquals("done", result);
+        Assert.assertEquals(List.of("implicitlyWait PT1S", "implicitlyWait PT0S"), commands);
+        Assert.assertEquals(Duration.ZERO, SessionTimeouts.getImplicitWait(driver));
+    }
+
+    @Test
+    public void resetOnlyRestoresChangedTimeouts() {
+        SessionTimeouts.reset(driver);
+        Assert.assertEquals(List.of("implicitlyWait PT0S"), commands);
+
+        commands.clear();
+        SessionTimeouts.scriptTimeout(driver, Duration.ofSeconds(10));
+        SessionTimeouts.reset(driver);
+        Assert.assertEquals(List.of("scriptTimeout PT10S", "scriptTimeout " + SessionTimeouts.defaultScriptTimeout), commands);
+
+        commands.clear();
+        SessionTimeouts.pageLoadTimeout(driver, Duration.ofSeconds(60));
+        SessionTimeouts.reset(driver);
+        Assert.assertEquals(List.of("pageLoadTimeout PT1M", "pageLoadTimeout " + SessionTimeouts.defaultPageLoadTimeout), commands);
+    }
+
+    @Test
+    public void invalidatedTimeoutsAreResent() {
+        SessionTimeouts.implicitlyWait(driver, Duration.ofSeconds(2));
+        SessionTimeouts.invalidate(driver);
+        Assert.assertNull(SessionTimeouts.getImplicitWait(driver));
+        SessionTimeouts.implicitlyWait(driver, Duration.ofSeconds(2));
+        Assert.assertEquals(List.of("implicitlyWait PT2S", "implicitlyWait PT2S"), commands);
+    }
+
+    @Test
+    public void sessionsAreTrackedSeparately() {
+        List<String> otherCommands = new ArrayList<>();
+        WebDriver otherDriver = driver(otherCommands);
+        SessionTimeouts.implicitlyWait(driver, Duration.ofSeconds(2));
+        SessionTimeouts.implicitlyWait(otherDriver, Duration.ofSeconds(2));
+        Assert.assertEquals(List.of("implicitlyWait PT2S"), commands);
+        Assert.assertEquals(List.of("implicitlyWait PT2S"), otherCommands);
+    }
+}
@@ -0,0 +1,83 @@
+package pickleib.utilities.element.acquisition;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import pickleib.enums.SelectorType;
+import pickleib.exceptions.PickleibException;
+
+public class JsonRepositoryIndexTest {
+
+    JsonObject repository(String pages) {
+        return JsonParser.parseString("{\"pages\": [" + pages + "]}").getAsJsonObject();
+    }
+
+    @Test
+    public void compilesTheLocatorsOfEachElement() {
+        JsonRepositoryIndex index = JsonRepositoryIndex.compile(repository(
+                "{\"name\": \"homePage\", \"elements\": [" +
+                "  {\"elementName\": \"title\", \"cssSelector\": \"h1\", \"xpath\": \"//h1\"}," +
+                "  {\"elementName\": \"logo\", \"id\": \"logo\"}" +
+                "]}"
+        ));
+        JsonRepositoryIndex.CompiledElement title = index.getElement("title", "homePage");
+        Assert.assertEquals(By.cssSelector("h1"), title.locators().get(SelectorType.css));
+        Assert.assertEquals(By.xpath("//h1"), title.locators().get(SelectorType.xpath));
+        Assert.assertEquals(By.id("logo"), index.getElement("logo", "homePage").locators().get(SelectorType.id));
+        Assert.assertTrue(index.contains("logo", "homePage"));
+        Assert.assertFalse(index.contains("logo", "formsPage"));
+    }
+
+    @Test
+    public void reportsAllDuplicateAndMissingNamesAtOnce() {
+        PickleibException exception = Assert.assertThrows(PickleibException.class, () -> JsonRepositoryIndex.compile(repository(
+                "{\"name\": \"homePage\", \"elements\": [" +
+                "  {\"elementName\": \"title\", \"cssSelector\": \"h1\"}," +
+                "  {\"elementName\": \"title\", \"cssSelector\": \"h2\"}," +
+                "  {\"cssSelector\": \"h3\"}" +
+                "]}," +
+                "{\"name\": \"homePage\", \"elements\": []}," +
+                "{\"elements\": []}," +
+                "{\"name\": \"formsPage\"}"
+        )));
+        String message = exception.getMessage();
+        Assert.assertTrue(message, message.contains("Element title is defined more than once in the homePage page"));
+        Assert.assertTrue(message, message.contains("Element #2 of the homePage page does not have an elementName"));
+        Assert.assertTrue(message, message.contains("Page homePage is defined more than once"));
+        Assert.assertTrue(message, message.contains("Page #2 does not have a name"));
+        Assert.assertTrue(message, message.contains("Page formsPage does not include an 'elements' array"));
+    }
+
+    @Test
+    public void rejectsRepositoriesWithoutPages() {
+        Assert.assertThrows(
+                PickleibException.class,
+                () -> JsonRepositoryIndex.compile(JsonParser.parseString("{}").getAsJsonObject())
+        );
+    }
+
+    @Test
+    public void rejectsUndefinedPagesAndElements() {
+        JsonRepositoryIndex index = JsonRepositoryIndex.compile(repository(
+                "{\"name\": \"homePage\", \"elements\": [{\"elementName\": \"title\", \"cssSelector\": \"h1\"}]}"
+        ));
+        Assert.assertThrows(PickleibException.class, () -> index.getElement("title", "formsPage"));
+        Assert.assertThrows(PickleibException.class, () -> index.getElement("logo", "homePage"));
+    }
+
+    @Test
+    public void reusesTheCompiledIndexOfARepository() {
+        JsonObject repository = repository(
+                "{\"name\": \"homePage\", \"elements\": [{\"elementName\": \"title\", \"cssSelector\": \"h1\"}]}"
+        );
+        Assert.assertSame(JsonRepositoryIndex.of(repository), JsonRepositoryIndex.of(repository));
+    }
+
+    @Test
+    public void matchesRepositoriesByIdentity() {
+        String pages = "{\"name\": \"homePage\", \"elements\": [{\"elementName\": \"title\", \"cssSelector\": \"h1\"}]}";
+        Assert.assertNotSame(JsonRepositoryIndex.of(repository(pages)), JsonRepositoryIndex.of(repository(pages)));
+    }
+}
@@ -0,0 +1,84 @@
+package pickleib.utilities.polling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.NoSuchElementException;
+
+public class PollerTest {
+
+    @Test
+    public void fixedPolicyKeepsTheInterval() {
+        PollingPolicy policy = PollingPolicy.fixed(250);
+        for (int attempt = 0; attempt < 10; attempt++) Assert.assertEquals(250, policy.delay(attempt));
+    }
+
+    @Test
+    public void exponentialPolicyGrowsUntilTheMaxInterval() {
+        PollingPolicy policy = PollingPolicy.exponential(100, 1000, 2, 0);
+        long[] expected = {100, 200, 400, 800, 1000, 1000};
+        for (int attempt = 0; attempt < expected.length; attempt++)
+            Assert.assertEquals(expected[attempt], policy.delay(attempt));
+    }
+
+    @Test
+    public void exponentialJitterStaysWithinItsRatio() {
+        double jitter = 0.2;
+        PollingPolicy policy = PollingPolicy.exponential(100, 1000, 2, jitter);
+        for (int attempt = 0; attempt < 8; attempt++) {
+            double base = Math.min(1000, 100 * Math.pow(2, attempt));
+            long lowerBound = Math.round(base * (1 - jitter));
+            long upperBound = Math.round(base * (1 + jitter));
+            for (int sample = 0; sample < 500; sample++) {
+                long delay = policy.delay(attempt);
+                Assert.assertTrue(delay + " is below " + lowerBound, delay >= lowerBound);
+                Assert.assertTrue(delay + " is above " + upperBound, delay <= upperBound);
+            }
+        }
+    }
+
+    @Test
+    public void immediateThenBackoffDelegatesAfterTheImmediateAttempts() {
+        PollingPolicy policy = PollingPolicy.immediateThenBackoff(2, PollingPolicy.exponential(100, 1000, 2, 0));
+        Assert.assertEquals(0, policy.delay(0));
+        Assert.assertEquals(0, policy.delay(1));
+        Assert.assertEquals(100, policy.delay(2));
+        Assert.assertEquals(200, policy.delay(3));
+    }
+
+    @Test
+    public void pollerReturnsTheFirstResult() {
+        int[] attempts = {0};
+        Poller poller = new Poller(5000).withPolicy(PollingPolicy.fixed(1));
+        String result = poller.until(() -> ++attempts[0] < 3 ? null : "found");
+        Assert.assertEquals("found", result);
+        Assert.assertEquals(3, poller.getAttemptCount());
+    }
+
+    @Test
+    public void pollerRetriesWebDriverExceptions() {
+        int[] attempts = {0};
+        Poller poller = new Poller(5000).withPolicy(PollingPolicy.fixed(1));
+        boolean met = poller.isMet(() -> {
+            if (++attempts[0] < 4) throw new NoSuchElementException("not yet");
+            return true;
+        });
+        Assert.assertTrue(met);
+        Assert.assertEquals(3, poller.getFailureCount());
+        Assert.assertTrue(poller.getLastException() instanceof NoSuchElementException);
+    }
+
+    @Test
+    public void pollerAttemptsOnceWithoutTimeout() {
+        Poller poller = new Poller(0).withPolicy(PollingPolicy.fixed(1000));
+        Assert.assertNull(poller.until(() -> null));
+        Assert.assertEquals(1, poller.getAttemptCount());
+    }
+
+    @Test
+    public void pollerGivesUpAfterTheTimeout() {
+        long start = System.currentTimeMillis();
+        Assert.assertFalse(new Poller(200).withPolicy(PollingPolicy.fixed(20)).isMet(() -> false));
+        long elapsed = System.currentTimeMillis() - start;
+        Assert.assertTrue("Elapsed " + elapsed + " ms", elapsed >= 200 && elapsed < 2000);
+    }
+}
@@ -0,0 +1,99 @@
+package pickleib.utilities.screenshot;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+public class ScreenCaptureUtilityTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    byte[] png() throws IOException {
+        BufferedImage image = new BufferedImage(32, 16, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(4, 4, 0xFFFF0000);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    @Test
+    public void flushWaitsForAllPendingWrites() throws IOException {
+        byte[] screenshot = png();
+        List<CompletableFuture<File>> futures = new ArrayList<>();
+        for (int index = 0; index < 20; index++)
+            futures.add(ScreenCaptureUtility.submit(
+                    screenshot,
+                    new File(folder.getRoot(), "screenshot-" + index + (index % 2 == 0 ? ".png" : ".jpg"))
+            ));
+        ScreenCaptureUtility.flush();
+
+        Assert.assertEquals(0, ScreenCaptureUtility.getPendingWrites());
+        for (CompletableFuture<File> future : futures) {
+            Assert.assertTrue(future.isDone());
+            File file = future.join();
+            Assert.assertTrue(file.getName(), file.length() > 0);
+            BufferedImage image = ImageIO.read(file);
+            Assert.assertEquals(32, image.getWidth());
+            Assert.assertEquals(16, image.getHeight());
+        }
+    }
+
+    @Test
+    public void failedWritesDoNotBlockFlush() throws InterruptedException {
+        CompletableFuture<File> future = ScreenCaptureUtility.submit(new byte[]{1, 2, 3}, new File(folder.getRoot(), "broken.jpg"));
+        ScreenCaptureUtility.flush();
+
+        Assert.assertEquals(0, ScreenCaptureUtility.getPendingWrites());
+        Assert.assertTrue(future.isCompletedExceptionally());
+        try {
+            future.get();
+            Assert.fail("Undecodable screenshot was written");
+        }
+        catch (ExecutionException exception) {
+            Assert.assertTrue(exception.getCause() instanceof IOException);
+        }
+    }
+
+    @Test
+    public void fileNamesAreUnique() {
+        String first = ScreenCaptureUtility.fileName("login", ".png");
+        String second = ScreenCaptureUtility.fileName("login", ".png");
+        Assert.assertNotEquals(first, second);
+        Assert.assertTrue(first.startsWith("login#"));
+        Assert.assertTrue(first.contains("-" + ProcessHandle.current().pid() + "-"));
+        Assert.assertTrue(first.endsWith(".png"));
+    }
+
+    @Test
+    public void writesSubmittedAfterShutdownAreRejected() throws Exception {
+        Method shutdown = ScreenCaptureUtility.class.getDeclaredMethod("shutdown");
+        Field writer = ScreenCaptureUtility.class.getDeclaredField("writer");
+        shutdown.setAccessible(true);
+        writer.setAccessible(true);
+        ScreenCaptureUtility.submit(png(), new File(folder.getRoot(), "before.png")).join();
+        shutdown.invoke(null);
+        try {
+            CompletableFuture<File> future = ScreenCaptureUtility.submit(png(), new File(folder.getRoot(), "after.png"));
+            Assert.assertTrue(future.isCompletedExceptionally());
+            Assert.assertEquals(0, ScreenCaptureUtility.getPendingWrites());
+            ScreenCaptureUtility.flush();
+        }
+        finally {
+            writer.set(null, null); // Later tests start a new writer
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package pickleib.web.driver;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import pickleib.exceptions.PickleibException;
+
+import java.util.concurrent.CompletableFuture;
+
+public class SessionRegistryTest {
+
+    @After
+    public void after() {
+        for (SessionRegistry.Session session : SessionRegistry.sessions()) SessionRegistry.unregister(session.key());
+    }
+
+    @Test
+    public void defaultKeysAreStablePerThread() throws Exception {
+        String key = SessionRegistry.defaultKey();
+        Assert.assertEquals(key, SessionRegistry.defaultKey());
+        Assert.assertNotEquals(key, CompletableFuture.supplyAsync(SessionRegistry::defaultKey).get());
+    }
+
+    @Test
+    public void returnsNullWithoutRegisteredSessions() {
+        Assert.assertNull(SessionRegistry.current());
+    }
+
+    @Test
+    public void returnsTheSessionBoundToTheThread() {
+        SessionRegistry.Session session = SessionRegistry.register("scenario", null);
+        Assert.assertSame(session, SessionRegistry.current());
+    }
+
+    @Test
+    public void unboundThreadsDoNotFallBackToAnotherSession() throws Exception {
+        SessionRegistry.register("scenario", null);
+        Throwable failure = CompletableFuture.runAsync(SessionRegistry::current)
+                .handle((result, exception) -> exception)
+                .get();
+        Assert.assertNotNull(failure);
+        Assert.assertTrue(failure.getCause() instanceof PickleibException);
+    }
+
+    @Test
+    public void boundThreadsAcquireTheSession() throws Exception {
+        SessionRegistry.Session session = SessionRegistry.register("scenario", null);
+        Assert.assertSame(session, CompletableFuture.supplyAsync(() -> SessionRegistry.bind("scenario")).get());
+    }
+}
@@ -0,0 +1,80 @@
+package pickleib.web.utilities;
+
+import collections.Bundle;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openqa.selenium.WebElement;
+import pickleib.exceptions.PickleibException;
+import pickleib.utilities.Utilities;
+import pickleib.utilities.interfaces.functions.ScrollFunction;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+public class DomSnapshotTest {
+
+    String markup = "<html><body><p data-pickleib-ref=\"0\">Total<span style=\"display:none\"> 42</span></p></body></html>";
+
+    @Test
+    public void mayContainIgnoresCaseAndWhitespace() {
+        DomSnapshot snapshot = DomSnapshot.parse(null, null, "<html><body><p>Order\n  <b>SUMMARY</b></p></body></html>", null);
+        Assert.assertTrue(DomSnapshot.mayContain(snapshot.root(), "order summary"));
+        Assert.assertFalse(DomSnapshot.mayContain(snapshot.root(), "Order total"));
+    }
+
+    @Test
+    public void hiddenSnapshotTextDoesNotPassVerification() {
+        SnapshotUtilities utilities = new SnapshotUtilities(DomSnapshot.parse(null, null, markup, null));
+        Assert.assertTrue(utilities.snapshot.reference(0).text().contains("42"));
+        Assert.assertThrows(
+                PickleibException.class,
+                () -> utilities.verifyListedElementText(List.of(new Bundle<>(element("Total"), "total", "Total 42")), "page")
+        );
+    }
+
+    @Test
+    public void renderedTextPassesVerification() {
+        SnapshotUtilities utilities = new SnapshotUtilities(DomSnapshot.parse(null, null, markup, null));
+        utilities.verifyListedElementText(List.of(new Bundle<>(element("Total"), "total", "Total")), "page");
+    }
+
+    @Test
+    public void snapshotRulesOutMismatchesWithoutLiveReads() {
+        SnapshotUtilities utilities = new SnapshotUtilities(DomSnapshot.parse(null, null, markup, null));
+        Assert.assertThrows(
+                PickleibException.class,
+                () -> utilities.verifyListedElementText(List.of(new Bundle<>(element(null), "total", "Subtotal")), "page")
+        );
+    }
+
+    /**
+     * Creates an element whose getText() returns a given rendered text, getText() fails the test if the text is null
+     */
+    WebElement element(String renderedText) {
+        return (WebElement) Proxy.newProxyInstance(
+                WebElement.class.getClassLoader(),
+                new Class<?>[]{WebElement.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getText")) throw new UnsupportedOperationException(method.getName());
+                    if (renderedText == null) throw new AssertionError("Live text should not be read");
+                    return renderedText;
+                }
+        );
+    }
+
+    static class SnapshotUtilities extends Utilities {
+
+        DomSnapshot snapshot;
+
+        SnapshotUtilities(DomSnapshot snapshot) {
+            super(null, (ScrollFunction) null);
+            this.snapshot = snapshot;
+            this.domSnapshots = true;
+        }
+
+        @Override
+        protected DomSnapshot captureSnapshot(WebElement root, List<WebElement> references) {
+            return snapshot;
+        }
+    }
+}
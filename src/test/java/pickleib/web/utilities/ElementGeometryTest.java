@@ -0,0 +1,53 @@
+package pickleib.web.utilities;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class ElementGeometryTest {
+
+    boolean isInViewport(double x, double y, double width, double height) {
+        ElementGeometry.Rect rect = new ElementGeometry.Rect(x, y, width, height);
+        return new ElementGeometry.Snapshot(800, 600, 0, 1200, List.of(rect)).isInViewport(0);
+    }
+
+    @Test
+    public void exactFitIsInViewport() {
+        Assert.assertTrue(isInViewport(0, 0, 800, 600));
+        Assert.assertTrue(isInViewport(700, 500, 100, 100));
+    }
+
+    @Test
+    public void zeroSizeRectAtTheOriginIsInViewport() {
+        Assert.assertTrue(isInViewport(0, 0, 0, 0));
+    }
+
+    @Test
+    public void rectsPastTheRightOrBottomEdgeAreNotInViewport() {
+        Assert.assertFalse(isInViewport(700.5, 0, 100, 100));
+        Assert.assertFalse(isInViewport(0, 500.5, 100, 100));
+    }
+
+    @Test
+    public void rectsPastTheTopOrLeftEdgeAreNotInViewport() {
+        Assert.assertFalse(isInViewport(0, -0.5, 100, 100));
+        Assert.assertFalse(isInViewport(-0.5, 0, 100, 100));
+    }
+
+    @Test
+    public void rectsLargerThanTheViewportAreNotInViewport() {
+        Assert.assertFalse(isInViewport(0, 0, 801, 100));
+        Assert.assertFalse(isInViewport(0, 0, 100, 601));
+    }
+
+    @Test
+    public void scrollOffsetsDoNotAffectViewportRects() {
+        ElementGeometry.Snapshot snapshot = new ElementGeometry.Snapshot(800, 600, 0, 1200, List.of(
+                new ElementGeometry.Rect(10, 10, 10, 10),
+                new ElementGeometry.Rect(10, 1210, 10, 10)
+        ));
+        Assert.assertTrue(snapshot.isInViewport(0));
+        Assert.assertFalse(snapshot.isInViewport(1));
+    }
+}
@@ -0,0 +1,112 @@
+package pickleib.web.utilities;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SessionStateCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    String directory;
+    long timeToLive;
+
+    @Before
+    public void before() {
+        directory = SessionStateCache.getDirectory();
+        timeToLive = SessionStateCache.getTimeToLive();
+        SessionStateCache.setDirectory(folder.getRoot().getPath());
+        SessionStateCache.setTimeToLive(60);
+    }
+
+    @After
+    public void after() {
+        SessionStateCache.setDirectory(directory);
+        SessionStateCache.setTimeToLive(timeToLive);
+    }
+
+    /**
+     * Writes a cached snapshot of the key captured at a given time, with a session cookie expiring at a given time
+     */
+    Path cache(String key, long capturedAt, Long cookieExpiry) throws IOException {
+        Path path = folder.getRoot().toPath().resolve(key + ".json");
+        Files.writeString(path, "{" +
+                "\"origin\": \"https://example.com\"," +
+                "\"capturedAt\": " + capturedAt + "," +
+                "\"cookies\": [{\"name\": \"session\", \"value\": \"abc\", \"domain\": \"example.com\", \"path\": \"/\"," +
+                (cookieExpiry != null ? "\"expiry\": " + cookieExpiry + "," : "") +
+                "\"secure\": true, \"httpOnly\": true, \"sameSite\": \"Lax\"}]," +
+                "\"localStorage\": {\"token\": \"xyz\"}," +
+                "\"sessionStorage\": {}" +
+                "}");
+        return path;
+    }
+
+    @Test
+    public void loadsFreshSnapshots() throws IOException {
+        long now = System.currentTimeMillis();
+        cache("admin", now, now + 60000);
+        SessionState state = SessionStateCache.load("admin");
+        Assert.assertNotNull(state);
+        Assert.assertEquals("https://example.com", state.getOrigin());
+        Assert.assertEquals("abc", state.getCookies().get(0).value());
+        Assert.assertEquals("xyz", state.getLocalStorage().get("token"));
+        Assert.assertNull(state.getIndexedDb());
+    }
+
+    @Test
+    public void loadsSnapshotsWithSessionCookies() throws IOException {
+        cache("admin", System.currentTimeMillis(), null);
+        Assert.assertNotNull(SessionStateCache.load("admin"));
+    }
+
+    @Test
+    public void evictsSnapshotsOlderThanTheTimeToLive() throws IOException {
+        Path path = cache("admin", System.currentTimeMillis() - 61000, null);
+        Assert.assertNull(SessionStateCache.load("admin"));
+        Assert.assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void evictsSnapshotsWithExpiredCookies() throws IOException {
+        long now = System.currentTimeMillis();
+        Path path = cache("admin", now, now - 1);
+        Assert.assertNull(SessionStateCache.load("admin"));
+        Assert.assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void evictsUnreadableSnapshots() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("admin.json");
+        Files.writeString(path, "{\"origin\": ");
+        Assert.assertNull(SessionStateCache.load("admin"));
+        Assert.assertFalse(Files.exists(path));
+    }
+
+    @Test
+    public void returnsNullForMissingSnapshots() {
+        Assert.assertNull(SessionStateCache.load("admin"));
+    }
+
+    @Test
+    public void storedSnapshotsLoadBack() throws IOException {
+        long now = System.currentTimeMillis();
+        cache("admin", now, now + 60000);
+        SessionState state = SessionStateCache.load("admin");
+        SessionStateCache.store("support user", state);
+        Assert.assertTrue(Files.exists(folder.getRoot().toPath().resolve("support_user.json")));
+        SessionState loaded = SessionStateCache.load("support user");
+        Assert.assertNotNull(loaded);
+        Assert.assertEquals(state.getCapturedAt(), loaded.getCapturedAt());
+        Assert.assertEquals(state.getCookies(), loaded.getCookies());
+        Assert.assertEquals(state.getLocalStorage(), loaded.getLocalStorage());
+    }
+}